@@ -44,6 +44,9 @@ class ArrayPopulator {
         Class<?> componentType = fieldType.getComponentType();
         int randomSize = getRandomArraySize(context.getParameters());
         Object result = Array.newInstance(componentType, randomSize);
+        if (easyRandom.fillArray(result, componentType, context)) {
+            return result;
+        }
         for (int i = 0; i < randomSize; i++) {
             Object randomElement = easyRandom.doPopulateBean(componentType, context);
             Array.set(result, i, randomElement);
@@ -26,8 +26,6 @@ package org.jeasy.random;
 import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.Collection;
 
 import static org.jeasy.random.util.ReflectionUtils.*;
@@ -45,28 +43,31 @@ class CollectionPopulator {
         this.easyRandom = easyRandom;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     Collection<?> getRandomCollection(final Field field, final RandomizationContext context) {
+        return getRandomCollection(field.getType(), getPopulatableTypeArgument(field.getGenericType(), 0), context);
+    }
+
+    /*
+     * The element type is null for raw types and for element types that are not populatable: such collections are empty.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Collection<?> getRandomCollection(final Class<?> collectionType, final Class<?> elementType, final RandomizationContext context) {
         int randomSize = getRandomCollectionSize(context.getParameters());
-        Class<?> fieldType = field.getType();
-        Type fieldGenericType = field.getGenericType();
         Collection collection;
 
-        if (isInterface(fieldType)) {
-            collection = getEmptyImplementationForCollectionInterface(fieldType);
+        if (isInterface(collectionType)) {
+            collection = getEmptyImplementationForCollectionInterface(collectionType);
         } else {
-            collection = createEmptyCollectionForType(fieldType, randomSize);
+            collection = createEmptyCollectionForType(collectionType, randomSize);
         }
 
-        if (isParameterizedType(fieldGenericType)) { // populate only parametrized types, raw types will be empty
-            ParameterizedType parameterizedType = (ParameterizedType) fieldGenericType;
-            Type type = parameterizedType.getActualTypeArguments()[0];
-            if (isPopulatable(type)) {
-                for (int i = 0; i < randomSize; i++) {
-                    Object item = easyRandom.doPopulateBean((Class<?>) type, context);
-                    collection.add(item);
-                }
-
+        if (elementType != null) {
+            if (easyRandom.addRandomValues(collection, elementType, randomSize, context)) {
+                return collection;
+            }
+            for (int i = 0; i < randomSize; i++) {
+                Object item = easyRandom.doPopulateBean(elementType, context);
+                collection.add(item);
             }
         }
         return collection;
@@ -0,0 +1,213 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.PrimitiveBooleanRandomizer;
+import org.jeasy.random.api.PrimitiveByteRandomizer;
+import org.jeasy.random.api.PrimitiveCharRandomizer;
+import org.jeasy.random.api.PrimitiveDoubleRandomizer;
+import org.jeasy.random.api.PrimitiveFloatRandomizer;
+import org.jeasy.random.api.PrimitiveIntRandomizer;
+import org.jeasy.random.api.PrimitiveLongRandomizer;
+import org.jeasy.random.api.PrimitiveShortRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.jeasy.random.util.FieldAccessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.jeasy.random.util.ReflectionUtils.getProperty;
+import static org.jeasy.random.util.ReflectionUtils.isPrimitiveFieldWithDefaultValue;
+import static org.jeasy.random.util.ReflectionUtils.isTypeVariable;
+
+/**
+ * Populator of a given bean type, compiled once from its {@link PopulationPlan}.
+ *
+ * Fields that have a randomizer which does not depend on the randomization context are written
+ * by a method handle that calls the randomizer and stores the value in the field (or calls its
+ * setter) directly. The JVM compiles such method handle chains into dedicated (hidden) classes,
+ * so populating these fields does not go through randomizer lookups and generic reflective
+ * dispatch anymore. Other fields (nested beans, collections, generic or context aware fields)
+ * are delegated to the default population in the same order, so that a compiled populator draws
+ * random values in the same sequence as the default population.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class CompiledPopulator {
+
+    /**
+     * Default population of a single field.
+     */
+    @FunctionalInterface
+    interface FieldPopulation {
+        void populate(Field field, Object target, RandomizationContext context) throws IllegalAccessException;
+    }
+
+    private static final MethodType POPULATOR_TYPE = methodType(void.class, Object.class, RandomizationContext.class);
+
+    private static final MethodHandle NO_OP = MethodHandles.empty(POPULATOR_TYPE);
+
+    private static final MethodHandle GET_RANDOM_VALUE;
+
+    private static final MethodHandle POPULATE_FIELD;
+
+    private static final MethodHandle HAS_DEFAULT_VALUE;
+
+    private static final MethodHandle SETTER_FAILED;
+
+    private static final Map<Class<?>, MethodHandle> PRIMITIVE_VALUES = new HashMap<>();
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            GET_RANDOM_VALUE = lookup.findVirtual(Randomizer.class, "getRandomValue", methodType(Object.class));
+            POPULATE_FIELD = lookup.findVirtual(FieldPopulation.class, "populate",
+                    methodType(void.class, Field.class, Object.class, RandomizationContext.class));
+            HAS_DEFAULT_VALUE = lookup.findStatic(CompiledPopulator.class, "hasDefaultValue",
+                    methodType(boolean.class, Field.class, Object.class));
+            SETTER_FAILED = lookup.findStatic(CompiledPopulator.class, "setterFailed",
+                    methodType(void.class, Field.class, Throwable.class, Object.class));
+            PRIMITIVE_VALUES.put(int.class, lookup.findVirtual(PrimitiveIntRandomizer.class, "getRandomInt", methodType(int.class)));
+            PRIMITIVE_VALUES.put(long.class, lookup.findVirtual(PrimitiveLongRandomizer.class, "getRandomLong", methodType(long.class)));
+            PRIMITIVE_VALUES.put(double.class, lookup.findVirtual(PrimitiveDoubleRandomizer.class, "getRandomDouble", methodType(double.class)));
+            PRIMITIVE_VALUES.put(float.class, lookup.findVirtual(PrimitiveFloatRandomizer.class, "getRandomFloat", methodType(float.class)));
+            PRIMITIVE_VALUES.put(short.class, lookup.findVirtual(PrimitiveShortRandomizer.class, "getRandomShort", methodType(short.class)));
+            PRIMITIVE_VALUES.put(byte.class, lookup.findVirtual(PrimitiveByteRandomizer.class, "getRandomByte", methodType(byte.class)));
+            PRIMITIVE_VALUES.put(boolean.class, lookup.findVirtual(PrimitiveBooleanRandomizer.class, "getRandomBoolean", methodType(boolean.class)));
+            PRIMITIVE_VALUES.put(char.class, lookup.findVirtual(PrimitiveCharRandomizer.class, "getRandomChar", methodType(char.class)));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<?> type;
+
+    // (Object, RandomizationContext)void
+    private final MethodHandle populator;
+
+    private CompiledPopulator(final Class<?> type, final MethodHandle populator) {
+        this.type = type;
+        this.populator = populator;
+    }
+
+    /**
+     * Compile the populator of the given type.
+     *
+     * @param type the (concrete) type to populate
+     * @param populationPlan the population plan of the type, with exclusions applied
+     * @param fieldPopulator to resolve the randomizers of fields
+     * @param fieldPopulation default population of fields that cannot be compiled
+     * @param context the randomization context in which the populator is first needed
+     * @return the compiled populator of the given type
+     */
+    static CompiledPopulator of(final Class<?> type, final PopulationPlan populationPlan, final FieldPopulator fieldPopulator,
+                                final FieldPopulation fieldPopulation, final RandomizationContext context) {
+        MethodHandle defaultPopulation = POPULATE_FIELD.bindTo(fieldPopulation);
+        MethodHandle populator = NO_OP;
+        List<Field> fields = populationPlan.getFields();
+        // fields are chained from the last one, so that they are populated in the order of the plan
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            Field field = fields.get(i);
+            MethodHandle fieldWriter = isTypeVariable(field.getGenericType()) ? null
+                    : compileFieldWriter(field, fieldPopulator.getRandomizer(field, context), context.getParameters());
+            if (fieldWriter == null) {
+                fieldWriter = MethodHandles.insertArguments(defaultPopulation, 0, field);
+            }
+            populator = MethodHandles.foldArguments(populator, fieldWriter);
+        }
+        return new CompiledPopulator(type, populator);
+    }
+
+    /**
+     * Populate the fields of the given bean.
+     *
+     * @param bean to populate
+     * @param context the current randomization context
+     * @throws IllegalAccessException if a field cannot be accessed
+     */
+    void populate(final Object bean, final RandomizationContext context) throws IllegalAccessException {
+        try {
+            populator.invokeExact(bean, context);
+        } catch (RuntimeException | Error | IllegalAccessException e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new ObjectCreationException("Unable to populate an instance of type " + type, throwable);
+        }
+    }
+
+    /*
+     * Return a (Object, RandomizationContext)void handle writing a random value in the given field,
+     * or null if the field should be populated by the default population.
+     */
+    private static MethodHandle compileFieldWriter(final Field field, final Randomizer<?> randomizer, final EasyRandomParameters parameters) {
+        if (randomizer == null || randomizer instanceof ContextAwareRandomizer) {
+            return null;
+        }
+        if (randomizer instanceof SkipRandomizer) {
+            return NO_OP;
+        }
+        Class<?> fieldType = field.getType();
+        FieldAccessor fieldAccessor = FieldAccessor.of(field);
+        MethodHandle writer = parameters.isBypassSetters() ? null : fieldAccessor.getPropertyWriter();
+        if (writer != null) {
+            MethodHandle handler = MethodHandles.dropArguments(MethodHandles.insertArguments(SETTER_FAILED, 0, field), 2, fieldType);
+            writer = MethodHandles.catchException(writer, Throwable.class, handler);
+        } else {
+            writer = fieldAccessor.getFieldWriter();
+            if (writer == null) {
+                return null;
+            }
+        }
+        MethodHandle value = PRIMITIVE_VALUES.get(fieldType);
+        if (value != null && value.type().parameterType(0).isInstance(randomizer)) {
+            value = value.bindTo(randomizer);
+        } else {
+            value = GET_RANDOM_VALUE.bindTo(randomizer).asType(methodType(fieldType));
+        }
+        MethodHandle fieldWriter = MethodHandles.dropArguments(MethodHandles.collectArguments(writer, 1, value), 1, RandomizationContext.class);
+        if (!parameters.isOverrideDefaultInitialization()) {
+            MethodHandle hasDefaultValue = MethodHandles.dropArguments(HAS_DEFAULT_VALUE.bindTo(field), 1, RandomizationContext.class);
+            fieldWriter = MethodHandles.guardWithTest(hasDefaultValue, fieldWriter, NO_OP);
+        }
+        return fieldWriter;
+    }
+
+    private static boolean hasDefaultValue(final Field field, final Object target) throws IllegalAccessException {
+        return getProperty(target, field) == null || isPrimitiveFieldWithDefaultValue(target, field);
+    }
+
+    private static void setterFailed(final Field field, final Throwable throwable, final Object target) {
+        String exceptionMessage = String.format("Unable to invoke setter for field %s of class %s",
+                field.getName(), target.getClass().getName());
+        throw new ObjectCreationException(exceptionMessage, throwable);
+    }
+}
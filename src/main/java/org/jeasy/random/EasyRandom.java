@@ -25,12 +25,23 @@ package org.jeasy.random;
 
 import org.jeasy.random.api.*;
 import org.jeasy.random.randomizers.misc.EnumRandomizer;
+import org.jeasy.random.randomizers.registry.AnnotationRandomizerRegistry;
+import org.jeasy.random.randomizers.registry.CustomRandomizerRegistry;
+import org.jeasy.random.randomizers.registry.ExclusionRandomizerRegistry;
+import org.jeasy.random.randomizers.registry.InternalRandomizerRegistry;
+import org.jeasy.random.randomizers.registry.TimeRandomizerRegistry;
 import org.jeasy.random.util.ReflectionUtils;
+import org.jeasy.random.util.ScopedRandom;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.RecordComponent;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.jeasy.random.util.ReflectionUtils.*;
@@ -38,10 +49,23 @@ import static org.jeasy.random.util.ReflectionUtils.*;
 /**
  * Extension of {@link java.util.Random} that is able to generate random Java objects.
  *
+ * Instances are not meant to be shared between threads, unless they are created with
+ * {@link EasyRandomParameters#threadSafe(boolean) thread safe} parameters.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
-public class EasyRandom extends Random {
+public class EasyRandom extends ScopedRandom {
+
+    // whether randomizers of a given class can fill arrays in batch
+    private static final ClassValue<Boolean> FILLS_ARRAYS_IN_BATCH = batchMethodCheck("fill", Object.class);
+
+    // whether randomizers of a given class can generate collection elements in batch
+    private static final ClassValue<Boolean> GENERATES_VALUES_IN_BATCH = batchMethodCheck("getRandomValues", int.class);
+
+    // registries resolving randomizers by type, except for field predicates and annotations handled by generated populators
+    private static final Set<Class<?>> TYPE_BASED_REGISTRIES = Set.of(CustomRandomizerRegistry.class, ExclusionRandomizerRegistry.class,
+            InternalRandomizerRegistry.class, TimeRandomizerRegistry.class, AnnotationRandomizerRegistry.class);
 
     private final EasyRandomParameters parameters;
 
@@ -57,6 +81,30 @@ public class EasyRandom extends Random {
 
     private final ExclusionPolicy exclusionPolicy;
 
+    private final Map<Class<?>, PopulationPlan> populationPlans;
+
+    private final Map<Class<?>, Populator<?>> populators;
+
+    // whether generated populators can resolve randomizers by type, as long as no field predicate is registered
+    private final boolean typeBasedRandomization;
+
+    // null when compiled populators are disabled
+    private final Map<Class<?>, CompiledPopulator> compiledPopulators;
+
+    // version of the randomizer cache with which compiled populators resolved their randomizers
+    private volatile int compiledPopulatorsVersion;
+
+    private final RandomGenerators randomGenerators;
+
+    // generator of the configured algorithm or of a derived instance, if any (not used in thread safe mode)
+    private final RandomGenerator generator;
+
+    // per thread generators, only used in thread safe mode
+    private final ThreadLocal<RandomGenerator> threadGenerators;
+
+    // index of the first element of the next stream returned by objects(Class, int)
+    private final AtomicLong nextStreamIndex = new AtomicLong();
+
     /**
      * Create a new {@link EasyRandom} instance with default parameters.
      */
@@ -85,9 +133,72 @@ public class EasyRandom extends Random {
                 this.randomizerProvider, arrayPopulator,
                 collectionPopulator, mapPopulator, optionalPopulator);
         exclusionPolicy = easyRandomParameters.getExclusionPolicy();
+        populationPlans = new ConcurrentHashMap<>();
+        populators = loadPopulators();
+        typeBasedRandomization = randomizerProvider.getClass() == RegistriesRandomizerProvider.class
+                && exclusionPolicy.getClass() == DefaultExclusionPolicy.class
+                && registries.stream().allMatch(registry -> TYPE_BASED_REGISTRIES.contains(registry.getClass()));
+        // custom randomizer providers may resolve randomizers differently depending on the context
+        compiledPopulators = easyRandomParameters.isCompiledPopulators()
+                && randomizerProvider.getClass() == RegistriesRandomizerProvider.class ? new ConcurrentHashMap<>() : null;
+        randomGenerators = new RandomGenerators(easyRandomParameters.getSeed(), easyRandomParameters.getRandomGeneratorAlgorithm());
+        threadGenerators = easyRandomParameters.isThreadSafe() ? newThreadGenerators(randomGenerators) : null;
+        generator = !easyRandomParameters.isThreadSafe() && randomGenerators.hasAlgorithm() ? randomGenerators.create() : null;
+        parameters = easyRandomParameters;
+        if (easyRandomParameters.isScanClasspathForConcreteTypes()) {
+            ReflectionUtils.scanClasspathForConcreteTypes(easyRandomParameters);
+        }
+    }
+
+    /*
+     * Derived instance sharing the randomizer registries, introspection caches and generated populators of its parent.
+     * Shared randomizers are seeded with the seed of the parent, so the derived instance always binds a generator
+     * derived from its own seed while generating objects.
+     */
+    private EasyRandom(final EasyRandom parent, final EasyRandomParameters easyRandomParameters) {
+        super.setSeed(easyRandomParameters.getSeed());
+        randomizerProvider = parent.randomizerProvider;
+        objectFactory = parent.objectFactory;
+        arrayPopulator = new ArrayPopulator(this);
+        CollectionPopulator collectionPopulator = new CollectionPopulator(this);
+        MapPopulator mapPopulator = new MapPopulator(this, objectFactory);
+        OptionalPopulator optionalPopulator = new OptionalPopulator(this);
+        enumRandomizersByType = parent.enumRandomizersByType;
+        fieldPopulator = new FieldPopulator(this,
+                this.randomizerProvider, arrayPopulator,
+                collectionPopulator, mapPopulator, optionalPopulator);
+        exclusionPolicy = parent.exclusionPolicy;
+        populationPlans = parent.populationPlans;
+        populators = parent.populators;
+        typeBasedRandomization = parent.typeBasedRandomization;
+        // compiled populators delegate to the field populator of the instance that compiled them
+        compiledPopulators = parent.compiledPopulators != null ? new ConcurrentHashMap<>() : null;
+        randomGenerators = new RandomGenerators(easyRandomParameters.getSeed(), easyRandomParameters.getRandomGeneratorAlgorithm());
+        threadGenerators = easyRandomParameters.isThreadSafe() ? newThreadGenerators(randomGenerators) : null;
+        generator = !easyRandomParameters.isThreadSafe() ? randomGenerators.create() : null;
         parameters = easyRandomParameters;
     }
 
+    /**
+     * Create a new {@link EasyRandom} instance with the same parameters as this one, except the seed.
+     *
+     * The new instance shares the randomizer registries, introspection caches and populators of this one,
+     * so it is much cheaper to create than a new instance. It draws all random values from a generator
+     * derived from the given seed, so objects it generates are reproducible for a given seed. They are the
+     * same as the objects of a new instance with the same seed when a
+     * {@link EasyRandomParameters#randomGeneratorAlgorithm(String) random generator algorithm} is configured.
+     * Custom randomizers that do not extend {@link org.jeasy.random.randomizers.AbstractRandomizer} are
+     * shared with this instance and keep using their own random state.
+     *
+     * @param seed the seed of the new instance
+     * @return a new {@link EasyRandom} instance with the given seed
+     */
+    public EasyRandom withSeed(final long seed) {
+        EasyRandomParameters derivedParameters = parameters.copy();
+        derivedParameters.setSeed(seed);
+        return new EasyRandom(this, derivedParameters);
+    }
+
     /**
      * Generate a random instance of the given type.
      *
@@ -97,6 +208,19 @@ public class EasyRandom extends Random {
      * @throws ObjectCreationException when unable to create a new instance of the given type
      */
     public <T> T nextObject(final Class<T> type) {
+        RandomGenerator currentGenerator = threadGenerators != null ? threadGenerators.get() : generator;
+        if (currentGenerator == null) {
+            return generateObject(type);
+        }
+        RandomGenerator previous = ScopedRandom.bind(currentGenerator);
+        try {
+            return generateObject(type);
+        } finally {
+            ScopedRandom.restore(previous);
+        }
+    }
+
+    private <T> T generateObject(final Class<T> type) {
         if (type.isRecord()) {
             return createRandomRecord(type);
         } else {
@@ -107,6 +231,15 @@ public class EasyRandom extends Random {
     /**
      * Generate a stream of random instances of the given type.
      *
+     * Each element is generated from its own random generator, derived from the seed and the
+     * index of the element in a deterministic sequence (see {@link #nextObject(Class, long)}).
+     * The first stream of an instance starts at index 0 and each call continues the sequence
+     * where the previous stream ended, so successive calls return different instances. The stream is sized and can be efficiently split,
+     * so it can be processed in {@link Stream#parallel() parallel}: its content is the same
+     * whether it is processed sequentially or in parallel. Custom randomizers that do not
+     * extend {@link org.jeasy.random.randomizers.AbstractRandomizer} use their own random
+     * state, which is not derived from the index of the element.
+     *
      * @param type           the type for which instances will be generated
      * @param streamSize         the number of instances to generate
      * @param <T>            the actual type of the target objects
@@ -118,7 +251,40 @@ public class EasyRandom extends Random {
             throw new IllegalArgumentException("The stream size must be positive");
         }
 
-        return Stream.generate(() -> nextObject(type)).limit(streamSize);
+        long firstIndex = nextStreamIndex.getAndAdd(streamSize);
+        return LongStream.range(firstIndex, firstIndex + streamSize).mapToObj(index -> nextObject(type, index));
+    }
+
+    /**
+     * Generate the random instance of the given type at the given index of a deterministic sequence.
+     *
+     * The instance is generated from a random generator derived from the seed and the index only,
+     * so the same instance is returned for the same seed and index, without having to generate
+     * the instances of previous indexes. This allows several processes to generate distinct slices
+     * of the same logical sequence independently. This is the sequence returned by successive
+     * calls to {@link #objects(Class, int)}. Randomizers extending
+     * {@link org.jeasy.random.randomizers.AbstractRandomizer}, including Faker based and regular
+     * expression randomizers, draw from the generator of the index. Custom randomizers that do not
+     * extend it use their own random state, which is not derived from the index. So do values of
+     * regular expressions that Faker resolves with its own implementation, when they use constructs
+     * that {@link org.jeasy.random.randomizers.RegularExpressionRandomizer} does not support.
+     *
+     * @param type           the type for which an instance will be generated
+     * @param index          the index of the instance in the sequence
+     * @param <T>            the actual type of the target object
+     * @return the random instance of the given type at the given index
+     * @throws ObjectCreationException when unable to create a new instance of the given type
+     */
+    public <T> T nextObject(final Class<T> type, final long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("The index must be positive");
+        }
+        RandomGenerator previous = ScopedRandom.bind(randomGenerators.create(index));
+        try {
+            return generateObject(type);
+        } finally {
+            ScopedRandom.restore(previous);
+        }
     }
 
     private <T> T createRandomRecord(Class<T> recordType) {
@@ -126,7 +292,8 @@ public class EasyRandom extends Random {
         RecordComponent[] recordComponents = recordType.getRecordComponents();
         Object[] randomValues = new Object[recordComponents.length];
         for (int i = 0; i < recordComponents.length; i++) {
-            randomValues[i] = this.nextObject(recordComponents[i].getType());
+            // generateObject keeps using the random generator bound to the current thread, if any
+            randomValues[i] = generateObject(recordComponents[i].getType());
         }
         // create a random instance with random values
         try {
@@ -146,10 +313,21 @@ public class EasyRandom extends Random {
 
             Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
             if (randomizer != null) {
-                if (randomizer instanceof ContextAwareRandomizer) {
-                    ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+                return (T) getRandomValue(randomizer, context);
+            }
+
+            // Sealed types are resolved to one of their permitted subtypes, even without classpath scanning
+            if (isAbstractSealedType(type)) {
+                List<Class<?>> permittedSubTypes = getPermittedConcreteSubTypesOf(type);
+                if (permittedSubTypes.isEmpty()) {
+                    throw new ObjectCreationException("Unable to find a permitted concrete subtype of sealed type: " + type);
                 }
-                return (T) randomizer.getRandomValue();
+                return (T) doPopulateBean(permittedSubTypes.get(nextInt(permittedSubTypes.size())), context);
+            }
+
+            // Records cannot be populated field by field, they are created with their canonical constructor
+            if (type.isRecord()) {
+                return createRandomRecord(type);
             }
 
             // Collection types are randomized without introspection for internal fields
@@ -163,25 +341,28 @@ public class EasyRandom extends Random {
             }
 
             // create a new instance of the target type
-            result = objectFactory.createInstance(type, context);
+            result = newInstance(type, context);
             context.setRandomizedObject(result);
 
             // cache instance in the population context
             context.addPopulatedBean(type, result);
 
-            // retrieve declared and inherited fields
-            List<Field> fields = getDeclaredFields(result);
-            // we cannot use type here, because with classpath scanning enabled the result can be a subtype
-            fields.addAll(getInheritedFields(result.getClass()));
-
-            // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
-            // This field should be excluded
-            if (type.getEnclosingClass() != null) {
-                fields.removeIf(field -> field.getName().equals("this$0"));
+            // generated populators are preferred over introspection
+            Populator<T> populator = getGeneratedPopulator(result, context);
+            if (populator != null) {
+                populator.populate(result, new EasyRandomPopulatorContext(this, fieldPopulator, randomizerProvider, context));
+                return result;
             }
 
+            // we cannot use type here, because with classpath scanning enabled the result can be a subtype
+            PopulationPlan populationPlan = getPopulationPlan(result.getClass(), context);
+
             // populate fields with random data
-            populateFields(fields, result, context);
+            if (isCompilable(populationPlan, context)) {
+                getCompiledPopulator(result.getClass(), populationPlan, context).populate(result, context);
+            } else {
+                populateFields(populationPlan, result, context);
+            }
 
             return result;
         } catch (Throwable e) {
@@ -195,10 +376,7 @@ public class EasyRandom extends Random {
 
     private <T> T randomize(final Class<T> type, final RandomizationContext context) {
         if (isEnumType(type)) {
-            if (!enumRandomizersByType.containsKey(type)) {
-                enumRandomizersByType.put(type, new EnumRandomizer(type, parameters.getSeed()));
-            }
-            return (T) enumRandomizersByType.get(type).getRandomValue();
+            return (T) enumRandomizersByType.computeIfAbsent(type, t -> new EnumRandomizer(t, parameters.getSeed())).getRandomValue();
         }
         if (isArrayType(type)) {
             return (T) arrayPopulator.getRandomArray(type, context);
@@ -212,22 +390,216 @@ public class EasyRandom extends Random {
         return null;
     }
 
-    private <T> void populateFields(final List<Field> fields, final T result, final RandomizationContext context) throws IllegalAccessException {
-        for (final Field field : fields) {
-            populateField(field, result, context);
+    private PopulationPlan getPopulationPlan(final Class<?> type, final RandomizationContext context) {
+        return populationPlans.computeIfAbsent(type, t -> PopulationPlan.of(t, exclusionPolicy, context));
+    }
+
+    /*
+     * Generated populators are preferred over the default object factory, which relies on reflection.
+     */
+    private <T> T newInstance(final Class<T> type, final RandomizationContext context) {
+        Populator<T> populator = (Populator<T>) populators.get(type);
+        if (populator != null && objectFactory.getClass() == ObjenesisObjectFactory.class) {
+            T instance = populator.newInstance();
+            if (instance != null) {
+                return instance;
+            }
         }
+        return objectFactory.createInstance(type, context);
+    }
+
+    private boolean hasNonDefaultValue(final Object bean, final Field field) throws IllegalAccessException {
+        return getProperty(bean, field) != null && !isPrimitiveFieldWithDefaultValue(bean, field);
     }
 
-    private <T> void populateField(final Field field, final T result, final RandomizationContext context) throws IllegalAccessException {
-        if (exclusionPolicy.shouldBeExcluded(field, context)) {
+    /*
+     * Generated populators resolve randomizers by type, so they are only used when no randomizer or exclusion is
+     * registered for fields (or types, since type exclusions are not checked for fields having a built-in randomizer),
+     * and do not check the randomization depth for each field, like compiled populators.
+     */
+    private <T> Populator<T> getGeneratedPopulator(final T bean, final RandomizationContext context) {
+        Populator<T> populator = (Populator<T>) populators.get(bean.getClass());
+        if (populator == null || !typeBasedRandomization
+                || !parameters.getFieldExclusionPredicates().isEmpty() || !parameters.getTypeExclusionPredicates().isEmpty()
+                || parameters.getCustomRandomizerRegistry().hasFieldRandomizers()
+                || context.getCurrentRandomizationDepth() >= parameters.getRandomizationDepth()) {
+            return null;
+        }
+        return populator;
+    }
+
+    /*
+     * Populate a field with reflection, for generated populators.
+     */
+    void populateField(final Object bean, final String declaringClassName, final String fieldName, final RandomizationContext context) {
+        PopulationPlan populationPlan = getPopulationPlan(bean.getClass(), context);
+        for (Field field : populationPlan.getFields()) {
+            if (field.getName().equals(fieldName) && field.getDeclaringClass().getName().equals(declaringClassName)) {
+                try {
+                    populateField(field, populationPlan.isExclusionsApplied(), bean, context);
+                } catch (IllegalAccessException e) {
+                    throw new ObjectCreationException("Unable to populate field " + fieldName + " of class " + declaringClassName, e);
+                }
+                return;
+            }
+        }
+    }
+
+    /*
+     * Compiled populators do not check the randomization depth for each field, so beans whose fields
+     * exceed the randomization depth are populated as usual.
+     */
+    private boolean isCompilable(final PopulationPlan populationPlan, final RandomizationContext context) {
+        return compiledPopulators != null && populationPlan.isExclusionsApplied()
+                && context.getCurrentRandomizationDepth() < parameters.getRandomizationDepth();
+    }
+
+    private CompiledPopulator getCompiledPopulator(final Class<?> type, final PopulationPlan populationPlan, final RandomizationContext context) {
+        // compiled populators are bound to the randomizers resolved when compiling them, which change when a randomizer is registered
+        int cacheVersion = ((RegistriesRandomizerProvider) randomizerProvider).getCacheVersion();
+        if (cacheVersion != compiledPopulatorsVersion) {
+            compiledPopulators.clear();
+            compiledPopulatorsVersion = cacheVersion;
+        }
+        return compiledPopulators.computeIfAbsent(type, t -> CompiledPopulator.of(t, populationPlan, fieldPopulator,
+                (field, target, ctx) -> populateField(field, true, target, ctx), context));
+    }
+
+    private <T> void populateFields(final PopulationPlan populationPlan, final T result, final RandomizationContext context) throws IllegalAccessException {
+        boolean exclusionsApplied = populationPlan.isExclusionsApplied();
+        for (final Field field : populationPlan.getFields()) {
+            populateField(field, exclusionsApplied, result, context);
+        }
+    }
+
+    private <T> void populateField(final Field field, final boolean exclusionsApplied, final T result, final RandomizationContext context) throws IllegalAccessException {
+        if (!exclusionsApplied && exclusionPolicy.shouldBeExcluded(field, context)) {
             return;
         }
-        if (!parameters.isOverrideDefaultInitialization() && getProperty(result, field) != null && !isPrimitiveFieldWithDefaultValue(result, field)) {
+        if (!parameters.isOverrideDefaultInitialization() && hasNonDefaultValue(result, field)) {
           return;
         }
         fieldPopulator.populateField(result, field, context);
     }
 
+    /*
+     * Fill the given array with values of the given component type in batch, when a batch
+     * randomizer is registered for this type. Return false when elements should be populated one by one.
+     */
+    boolean fillArray(final Object array, final Class<?> componentType, final RandomizationContext context) {
+        Randomizer<?> randomizer = getBatchRandomizer(componentType, context, FILLS_ARRAYS_IN_BATCH);
+        if (randomizer == null) {
+            return false;
+        }
+        try {
+            randomizer.fill(array);
+            return true;
+        } catch (Throwable e) {
+            return handleBatchError(componentType, e);
+        }
+    }
+
+    /*
+     * Add the given number of values of the given type to the collection in batch, when a batch
+     * randomizer is registered for this type. Return false when elements should be populated one by one.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    boolean addRandomValues(final Collection collection, final Class<?> type, final int count, final RandomizationContext context) {
+        Randomizer<?> randomizer = getBatchRandomizer(type, context, GENERATES_VALUES_IN_BATCH);
+        if (randomizer == null) {
+            return false;
+        }
+        List<?> values;
+        try {
+            values = randomizer.getRandomValues(count);
+        } catch (Throwable e) {
+            return handleBatchError(type, e);
+        }
+        collection.addAll(values);
+        return true;
+    }
+
+    private Randomizer<?> getBatchRandomizer(final Class<?> type, final RandomizationContext context, final ClassValue<Boolean> batchMethodCheck) {
+        if (exclusionPolicy.shouldBeExcluded(type, context)) {
+            return null;
+        }
+        Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+        // context aware randomizers need their context to be set for each value
+        if (randomizer == null || randomizer instanceof ContextAwareRandomizer) {
+            return null;
+        }
+        return batchMethodCheck.get(randomizer.getClass()) ? randomizer : null;
+    }
+
+    private static ClassValue<Boolean> batchMethodCheck(final String batchMethodName, final Class<?> parameterType) {
+        return new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(final Class<?> type) {
+                return isBatchMethodImplemented(type, batchMethodName, parameterType);
+            }
+        };
+    }
+
+    /*
+     * Custom randomizers, like mocks, may only implement getRandomValue, so batch methods are only used
+     * for batch randomizers. Methods generating single values (getRandomValue or a primitive variant) must
+     * not be overridden below the batch method, so that a subclass overriding getRandomValue only is used
+     * value by value. Implementing a method that is abstract where the batch method is implemented is fine.
+     */
+    static boolean isBatchMethodImplemented(final Class<?> type, final String batchMethodName, final Class<?> parameterType) {
+        if (!BatchRandomizer.class.isAssignableFrom(type)) {
+            return false;
+        }
+        try {
+            Class<?> batchImplementation = type.getMethod(batchMethodName, parameterType).getDeclaringClass();
+            for (Method method : type.getMethods()) {
+                if (method.getParameterCount() == 0 && method.getName().startsWith("getRandom") && !method.isBridge()
+                        && !method.getDeclaringClass().isAssignableFrom(batchImplementation)
+                        && isImplemented(batchImplementation, method.getName())) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isImplemented(final Class<?> type, final String methodName) {
+        try {
+            return !Modifier.isAbstract(type.getMethod(methodName).getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    // when errors are ignored, elements are populated one by one so that only failed ones are null
+    private boolean handleBatchError(final Class<?> type, final Throwable e) {
+        if (parameters.isIgnoreRandomizationErrors()) {
+            return false;
+        }
+        throw new ObjectCreationException("Unable to create a random instance of type " + type, e);
+    }
+
+    /*
+     * Context aware randomizers receive their context through a setter, so setting the context and
+     * getting the value must not be interleaved with a call from another thread.
+     */
+    static Object getRandomValue(final Randomizer<?> randomizer, final RandomizationContext context) {
+        if (randomizer instanceof ContextAwareRandomizer) {
+            synchronized (randomizer) {
+                ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
+                return randomizer.getRandomValue();
+            }
+        }
+        return randomizer.getRandomValue();
+    }
+
+    private static ThreadLocal<RandomGenerator> newThreadGenerators(final RandomGenerators randomGenerators) {
+        AtomicLong threadCount = new AtomicLong();
+        return ThreadLocal.withInitial(() -> randomGenerators.create(threadCount.getAndIncrement()));
+    }
+
     private LinkedHashSet<RandomizerRegistry> setupRandomizerRegistries(EasyRandomParameters parameters) {
         LinkedHashSet<RandomizerRegistry> registries = new LinkedHashSet<>();
         registries.add(parameters.getCustomRandomizerRegistry());
@@ -238,6 +610,12 @@ public class EasyRandom extends Random {
         return registries;
     }
 
+    private Map<Class<?>, Populator<?>> loadPopulators() {
+        Map<Class<?>, Populator<?>> populators = new HashMap<>();
+        ServiceLoader.load(Populator.class).forEach(populator -> populators.put(populator.getType(), populator));
+        return populators;
+    }
+
     private Collection<RandomizerRegistry> loadRegistries() {
         List<RandomizerRegistry> registries = new ArrayList<>();
         ServiceLoader.load(RandomizerRegistry.class).forEach(registries::add);
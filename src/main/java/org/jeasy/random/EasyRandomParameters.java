@@ -30,9 +30,11 @@ import org.jeasy.random.randomizers.registry.ExclusionRandomizerRegistry;
 import java.lang.reflect.Field;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.*;
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.random.RandomGeneratorFactory;
 
 import static java.lang.String.format;
 import static java.time.ZonedDateTime.of;
@@ -95,9 +97,15 @@ public class EasyRandomParameters {
     private int randomizationDepth;
     private Charset charset;
     private boolean scanClasspathForConcreteTypes;
+    private Set<String> scanPackages;
+    private boolean scanSystemModules;
+    private Path subTypeIndexDirectory;
     private boolean overrideDefaultInitialization;
     private boolean ignoreRandomizationErrors;
     private boolean bypassSetters;
+    private boolean threadSafe;
+    private boolean compiledPopulators;
+    private String randomGeneratorAlgorithm;
     private Range<Integer> collectionSizeRange;
     private Range<Integer> stringLengthRange;
     private Range<LocalDate> dateRange;
@@ -120,9 +128,13 @@ public class EasyRandomParameters {
         seed = DEFAULT_SEED;
         charset = DEFAULT_CHARSET;
         scanClasspathForConcreteTypes = false;
+        scanPackages = new LinkedHashSet<>();
+        scanSystemModules = false;
         overrideDefaultInitialization = false;
         ignoreRandomizationErrors = false;
         bypassSetters = false;
+        threadSafe = false;
+        compiledPopulators = false;
         objectPoolSize = DEFAULT_OBJECT_POOL_SIZE;
         randomizationDepth = DEFAULT_RANDOMIZATION_DEPTH;
         dateRange = new Range<>(DEFAULT_DATES_RANGE.getMin().toLocalDate(), DEFAULT_DATES_RANGE.getMax().toLocalDate());
@@ -209,6 +221,28 @@ public class EasyRandomParameters {
         this.scanClasspathForConcreteTypes = scanClasspathForConcreteTypes;
     }
 
+    public Set<String> getScanPackages() {
+        return Collections.unmodifiableSet(scanPackages);
+    }
+    public void setScanPackages(Set<String> scanPackages) {
+        Objects.requireNonNull(scanPackages, "Scan packages must not be null");
+        this.scanPackages = new LinkedHashSet<>(scanPackages);
+    }
+
+    public boolean isScanSystemModules() {
+        return scanSystemModules;
+    }
+    public void setScanSystemModules(boolean scanSystemModules) {
+        this.scanSystemModules = scanSystemModules;
+    }
+
+    public Path getSubTypeIndexDirectory() {
+        return subTypeIndexDirectory;
+    }
+    public void setSubTypeIndexDirectory(Path subTypeIndexDirectory) {
+        this.subTypeIndexDirectory = subTypeIndexDirectory;
+    }
+
     public boolean isOverrideDefaultInitialization() {
         return overrideDefaultInitialization;
     }
@@ -231,6 +265,32 @@ public class EasyRandomParameters {
         this.bypassSetters = bypassSetters;
     }
 
+    public String getRandomGeneratorAlgorithm() {
+        return randomGeneratorAlgorithm;
+    }
+    public void setRandomGeneratorAlgorithm(String randomGeneratorAlgorithm) {
+        if (randomGeneratorAlgorithm != null) {
+            // fail fast if the algorithm is not available
+            RandomGeneratorFactory.of(randomGeneratorAlgorithm);
+        }
+        this.randomGeneratorAlgorithm = randomGeneratorAlgorithm;
+    }
+
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+    public void setThreadSafe(boolean threadSafe) {
+        this.threadSafe = threadSafe;
+    }
+
+    public boolean isCompiledPopulators() {
+        return compiledPopulators;
+    }
+
+    public void setCompiledPopulators(boolean compiledPopulators) {
+        this.compiledPopulators = compiledPopulators;
+    }
+
     public ExclusionPolicy getExclusionPolicy() {
         return exclusionPolicy;
     }
@@ -290,6 +350,7 @@ public class EasyRandomParameters {
         Objects.requireNonNull(predicate, "Predicate must not be null");
         Objects.requireNonNull(randomizer, "Randomizer must not be null");
         customRandomizerRegistry.registerRandomizer(predicate, randomizer);
+        invalidateRandomizerCache();
         return this;
     }
 
@@ -305,6 +366,7 @@ public class EasyRandomParameters {
         Objects.requireNonNull(type, "Type must not be null");
         Objects.requireNonNull(randomizer, "Randomizer must not be null");
         customRandomizerRegistry.registerRandomizer(type, randomizer);
+        invalidateRandomizerCache();
         return this;
     }
 
@@ -320,6 +382,7 @@ public class EasyRandomParameters {
         Objects.requireNonNull(predicate, "Predicate must not be null");
         fieldExclusionPredicates.add(predicate);
         exclusionRandomizerRegistry.addFieldPredicate(predicate);
+        invalidateRandomizerCache();
         return this;
     }
 
@@ -335,6 +398,7 @@ public class EasyRandomParameters {
         Objects.requireNonNull(predicate, "Predicate must not be null");
         typeExclusionPredicates.add(predicate);
         exclusionRandomizerRegistry.addTypePredicate(predicate);
+        invalidateRandomizerCache();
         return this;
     }
 
@@ -510,6 +574,54 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Restrict the classpath scanning for concrete types to the given packages (and their sub-packages).
+     * Restricting the scan to the packages of the types to populate makes the scan much faster.
+     *
+     * Defaults to all packages.
+     *
+     * @param packages the packages to scan
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters scanPackages(final String... packages) {
+        Objects.requireNonNull(packages, "Packages must not be null");
+        scanPackages.addAll(Arrays.asList(packages));
+        return this;
+    }
+
+    /**
+     * Should the classpath scanning for concrete types include the JDK modules and jars?
+     * When deactivated, only concrete types of the application classpath are used to
+     * populate fields with an interface or abstract class type.
+     *
+     * Deactivated by default.
+     *
+     * @param scanSystemModules whether to scan system modules or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters scanSystemModules(boolean scanSystemModules) {
+        setScanSystemModules(scanSystemModules);
+        return this;
+    }
+
+    /**
+     * Set the directory where the result of the classpath scanning for concrete types is persisted.
+     * The persisted index is reused by subsequent JVMs as long as the classpath (including the
+     * modification times of its files) does not change, and rebuilt otherwise. This avoids
+     * scanning the classpath in each JVM, for example in forked test runs. Checking whether the
+     * classpath changed reads the size and modification time of each jar, and of each file of class
+     * directories, so it is proportional to the number of files in class directories.
+     *
+     * Defaults to null, which means that the classpath is scanned by each JVM.
+     *
+     * @param subTypeIndexDirectory the directory of persisted subtype indexes
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters subTypeIndexDirectory(Path subTypeIndexDirectory) {
+        setSubTypeIndexDirectory(subTypeIndexDirectory);
+        return this;
+    }
+
     /**
      * With this parameter, any randomization error will be silently ignored and the corresponding field will be set to null.
      *
@@ -561,6 +673,70 @@ public class EasyRandomParameters {
         return this;
     }
 
+    /**
+     * Should the {@link EasyRandom} instance be shared by several threads?
+     *
+     * In thread safe mode, each thread draws random values from its own generator (derived from the seed),
+     * so that threads do not contend on a shared random state. Randomizers, registries and introspection
+     * caches are still shared by all threads. Objects generated by a given thread are reproducible only if
+     * threads are created in the same order. {@link org.jeasy.random.api.ContextAwareRandomizer}s receive
+     * their context through a setter, so concurrent calls to the same context aware randomizer are serialized.
+     *
+     * Deactivated by default.
+     *
+     * @param threadSafe whether the {@link EasyRandom} instance will be shared by several threads or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters threadSafe(boolean threadSafe) {
+        setThreadSafe(threadSafe);
+        return this;
+    }
+
+    /**
+     * Should beans be populated by a populator compiled once per type?
+     *
+     * A compiled populator chains method handles that write the fields of a bean with their
+     * resolved randomizers, without looking up randomizers and field accessors for each field
+     * of each instance. Fields whose randomization depends on the context (nested beans,
+     * collections, generic or context aware fields) are still populated as usual. Compiled
+     * populators are only used with the default randomizer provider and exclusion policy,
+     * and generate the same objects as the default population for a given seed.
+     *
+     * Deactivated by default.
+     *
+     * @param compiledPopulators whether beans should be populated by compiled populators or not
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     */
+    public EasyRandomParameters compiledPopulators(boolean compiledPopulators) {
+        setCompiledPopulators(compiledPopulators);
+        return this;
+    }
+
+    /**
+     * Set the algorithm of the random generator to use, as defined by {@link RandomGeneratorFactory#of(String)}
+     * (for example {@code "L64X128MixRandom"} or {@code "Xoroshiro128PlusPlus"}). All values generated by
+     * {@link EasyRandom#nextObject(Class)} and {@link EasyRandom#objects(Class, int)} are drawn from a generator
+     * of this algorithm seeded with the {@link #seed(long) seed}, so generated objects are reproducible for a
+     * given (algorithm, seed) pair.
+     *
+     * Defaults to null, which means that each randomizer draws values from its own {@link java.util.Random}.
+     *
+     * @param randomGeneratorAlgorithm the name of the algorithm, or null to use {@link java.util.Random}
+     * @return the current {@link EasyRandomParameters} instance for method chaining
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public EasyRandomParameters randomGeneratorAlgorithm(String randomGeneratorAlgorithm) {
+        setRandomGeneratorAlgorithm(randomGeneratorAlgorithm);
+        return this;
+    }
+
+    private void invalidateRandomizerCache() {
+        // randomizers already resolved by the default provider may be outdated after a registry change
+        if (randomizerProvider instanceof RegistriesRandomizerProvider) {
+            ((RegistriesRandomizerProvider) randomizerProvider).invalidateCache();
+        }
+    }
+
     /**
      * Utility class to hold a range of values.
      *
@@ -604,9 +780,15 @@ public class EasyRandomParameters {
         copy.setRandomizationDepth(this.getRandomizationDepth());
         copy.setCharset(this.getCharset());
         copy.setScanClasspathForConcreteTypes(this.isScanClasspathForConcreteTypes());
+        copy.setScanPackages(this.getScanPackages());
+        copy.setScanSystemModules(this.isScanSystemModules());
+        copy.setSubTypeIndexDirectory(this.getSubTypeIndexDirectory());
         copy.setOverrideDefaultInitialization(this.isOverrideDefaultInitialization());
         copy.setIgnoreRandomizationErrors(this.isIgnoreRandomizationErrors());
         copy.setBypassSetters(this.isBypassSetters());
+        copy.setThreadSafe(this.isThreadSafe());
+        copy.setCompiledPopulators(this.isCompiledPopulators());
+        copy.setRandomGeneratorAlgorithm(this.getRandomGeneratorAlgorithm());
         copy.setCollectionSizeRange(this.getCollectionSizeRange());
         copy.setStringLengthRange(this.getStringLengthRange());
         copy.setDateRange(this.getDateRange());
@@ -0,0 +1,95 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.Optional;
+
+import org.jeasy.random.api.PopulatorContext;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerProvider;
+
+/**
+ * Context of generated populators, generating values with the {@link FieldPopulator} of an {@link EasyRandom} instance.
+ * A context is created for each populated object.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+class EasyRandomPopulatorContext implements PopulatorContext {
+
+    private final EasyRandom easyRandom;
+
+    private final FieldPopulator fieldPopulator;
+
+    private final RandomizerProvider randomizerProvider;
+
+    private final RandomizationContext context;
+
+    EasyRandomPopulatorContext(final EasyRandom easyRandom, final FieldPopulator fieldPopulator,
+                               final RandomizerProvider randomizerProvider, final RandomizationContext context) {
+        this.easyRandom = easyRandom;
+        this.fieldPopulator = fieldPopulator;
+        this.randomizerProvider = randomizerProvider;
+        this.context = context;
+    }
+
+    @Override
+    public boolean isOverrideDefaultInitialization() {
+        return context.getParameters().isOverrideDefaultInitialization();
+    }
+
+    @Override
+    public boolean isBypassSetters() {
+        return context.getParameters().isBypassSetters();
+    }
+
+    @Override
+    public Randomizer<?> getRandomizer(final Class<?> type) {
+        return randomizerProvider.getRandomizerByType(type, context);
+    }
+
+    @Override
+    public Object nextValue(final Object bean, final String fieldName, final Class<?> type) {
+        return fieldPopulator.getRandomValue(bean, fieldName, type, null, null, context);
+    }
+
+    @Override
+    public Object nextCollection(final Object bean, final String fieldName, final Class<?> type, final Class<?> elementType) {
+        return fieldPopulator.getRandomValue(bean, fieldName, type, elementType, null, context);
+    }
+
+    @Override
+    public Object nextMap(final Object bean, final String fieldName, final Class<?> type, final Class<?> keyType, final Class<?> valueType) {
+        return fieldPopulator.getRandomValue(bean, fieldName, type, keyType, valueType, context);
+    }
+
+    @Override
+    public Object nextOptional(final Object bean, final String fieldName, final Class<?> elementType) {
+        return fieldPopulator.getRandomValue(bean, fieldName, Optional.class, elementType, null, context);
+    }
+
+    @Override
+    public void populateField(final Object bean, final String declaringClassName, final String fieldName) {
+        easyRandom.populateField(bean, declaringClassName, fieldName, context);
+    }
+}
@@ -28,9 +28,11 @@ import java.lang.reflect.TypeVariable;
 import java.util.List;
 
 import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.PopulatorContext;
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.api.RandomizerProvider;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
+import org.jeasy.random.util.FieldAccessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,34 +87,9 @@ class FieldPopulator {
             return;
         }
         context.pushStackItem(new RandomizationContextStackItem(target, field));
-        if (randomizer instanceof ContextAwareRandomizer) {
-            ((ContextAwareRandomizer<?>) randomizer).setRandomizerContext(context);
-        }
         if(!context.hasExceededRandomizationDepth()) {
-            Object value;
-            if (randomizer != null) {
-                value = randomizer.getRandomValue();
-            } else {
-                try {
-                    value = generateRandomValue(field, context);
-                } catch (ObjectCreationException e) {
-                    String exceptionMessage = String.format("Unable to create type: %s for field: %s of class: %s",
-                          field.getType().getName(), field.getName(), target.getClass().getName());
-                    // FIXME catch ObjectCreationException and throw ObjectCreationException ?
-                    throw new ObjectCreationException(exceptionMessage, e);
-                }
-            }
-            if (context.getParameters().isBypassSetters()) {
-                setFieldValue(target, field, value);
-            } else {
-                try {
-                    setProperty(target, field, value);
-                } catch (InvocationTargetException e) {
-                    String exceptionMessage = String.format("Unable to invoke setter for field %s of class %s",
-                            field.getName(), target.getClass().getName());
-                    throw new ObjectCreationException(exceptionMessage,  e.getCause());
-                }
-            }
+            boolean bypassSetters = context.getParameters().isBypassSetters();
+            populateField(target, field, FieldAccessor.of(field), randomizer, bypassSetters, context);
         } else {
             logger.warn("Skipping populating field {}#{} as the randomization depth has been reached: {}",
                     field.getDeclaringClass().getSimpleName(), field.getName(), context.getParameters().getRandomizationDepth());
@@ -120,7 +97,80 @@ class FieldPopulator {
         context.popStackItem();
     }
 
-    private Randomizer<?> getRandomizer(Field field, RandomizationContext context) {
+    private void populateField(final Object target, final Field field, final FieldAccessor fieldAccessor,
+                               final Randomizer<?> randomizer, final boolean bypassSetters, final RandomizationContext context)
+            throws IllegalAccessException {
+        try {
+            if (!populatePrimitiveField(target, field, fieldAccessor, randomizer, bypassSetters)) {
+                Object value = getRandomValue(target, field, randomizer, context);
+                if (bypassSetters) {
+                    fieldAccessor.setFieldValue(target, value);
+                } else {
+                    fieldAccessor.setProperty(target, value);
+                }
+            }
+        } catch (InvocationTargetException e) {
+            String exceptionMessage = String.format("Unable to invoke setter for field %s of class %s",
+                    field.getName(), target.getClass().getName());
+            throw new ObjectCreationException(exceptionMessage,  e.getCause());
+        }
+    }
+
+    private Object getRandomValue(final Object target, final Field field, final Randomizer<?> randomizer, final RandomizationContext context) {
+        if (randomizer != null) {
+            return EasyRandom.getRandomValue(randomizer, context);
+        }
+        try {
+            return generateRandomValue(field, context);
+        } catch (ObjectCreationException e) {
+            String exceptionMessage = String.format("Unable to create type: %s for field: %s of class: %s",
+                  field.getType().getName(), field.getName(), target.getClass().getName());
+            // FIXME catch ObjectCreationException and throw ObjectCreationException ?
+            throw new ObjectCreationException(exceptionMessage, e);
+        }
+    }
+
+    /*
+     * Generated populators provide the type of the field and its populatable type arguments, if any, and resolve
+     * randomizers by type. Return PopulatorContext.SKIP when the field should not be populated.
+     */
+    Object getRandomValue(final Object target, final String fieldName, final Class<?> type, final Class<?> typeArgument,
+                          final Class<?> otherTypeArgument, final RandomizationContext context) {
+        Randomizer<?> randomizer = randomizerProvider.getRandomizerByType(type, context);
+        if (randomizer instanceof SkipRandomizer) {
+            return PopulatorContext.SKIP;
+        }
+        context.pushStackItem(new RandomizationContextStackItem(target, fieldName));
+        try {
+            if (randomizer != null) {
+                return EasyRandom.getRandomValue(randomizer, context);
+            }
+            try {
+                return generateRandomValue(type, typeArgument, otherTypeArgument, context);
+            } catch (ObjectCreationException e) {
+                String exceptionMessage = String.format("Unable to create type: %s for field: %s of class: %s",
+                        type.getName(), fieldName, target.getClass().getName());
+                throw new ObjectCreationException(exceptionMessage, e);
+            }
+        } finally {
+            context.popStackItem();
+        }
+    }
+
+    /*
+     * Primitive randomizers write primitive fields without boxing values.
+     * Return false when the field should be populated with a boxed value.
+     */
+    private boolean populatePrimitiveField(final Object target, final Field field, final FieldAccessor fieldAccessor,
+                                           final Randomizer<?> randomizer, final boolean bypassSetters)
+            throws IllegalAccessException, InvocationTargetException {
+        if (!field.getType().isPrimitive() || randomizer instanceof ContextAwareRandomizer) {
+            return false;
+        }
+        return fieldAccessor.setPrimitive(target, randomizer, bypassSetters);
+    }
+
+    Randomizer<?> getRandomizer(Field field, RandomizationContext context) {
         // issue 241: if there is no custom randomizer by field, then check by type
         Randomizer<?> randomizer = randomizerProvider.getRandomizerByField(field, context);
         if (randomizer == null) {
@@ -149,8 +199,10 @@ class FieldPopulator {
         } else if (isOptionalType(fieldType)) {
             return optionalPopulator.getRandomOptional(field, context);
         } else {
-            if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType) /*enums can be abstract, but cannot inherit*/) {
-                List<Class<?>> parameterizedTypes = filterSameParameterizedTypes(getPublicConcreteSubTypesOf(fieldType), fieldGenericType);
+            // sealed types are resolved from their permitted subtypes when populating the bean, without scanning
+            if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(fieldType) && !isEnumType(fieldType) /*enums can be abstract, but cannot inherit*/
+                    && !isAbstractSealedType(fieldType)) {
+                List<Class<?>> parameterizedTypes = filterSameParameterizedTypes(getPublicConcreteSubTypesOf(fieldType, context.getParameters()), fieldGenericType);
                 if (parameterizedTypes.isEmpty()) {
                     throw new ObjectCreationException("Unable to find a matching concrete subtype of type: " + fieldType);
                 } else {
@@ -169,6 +221,21 @@ class FieldPopulator {
         }
     }
 
+    private Object generateRandomValue(final Class<?> type, final Class<?> typeArgument, final Class<?> otherTypeArgument,
+                                       final RandomizationContext context) {
+        if (isArrayType(type)) {
+            return arrayPopulator.getRandomArray(type, context);
+        } else if (isCollectionType(type)) {
+            return collectionPopulator.getRandomCollection(type, typeArgument, context);
+        } else if (isMapType(type)) {
+            return mapPopulator.getRandomMap(type, typeArgument, otherTypeArgument, context);
+        } else if (isOptionalType(type)) {
+            return optionalPopulator.getRandomOptional(typeArgument, context);
+        } else {
+            return easyRandom.doPopulateBean(type, context);
+        }
+    }
+
     private Class<?> getParametrizedType(Field field, RandomizationContext context) {
         Class<?> declaringClass = field.getDeclaringClass();
         TypeVariable<? extends Class<?>>[] typeParameters = declaringClass.getTypeParameters();
@@ -28,7 +28,6 @@ import org.jeasy.random.randomizers.range.IntegerRangeRandomizer;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.EnumMap;
 import java.util.Map;
@@ -51,44 +50,45 @@ class MapPopulator {
         this.objectFactory = objectFactory;
     }
 
-    @SuppressWarnings("unchecked")
     Map<?, ?> getRandomMap(final Field field, final RandomizationContext context) {
-        int randomSize = getRandomMapSize(context.getParameters());
-        Class<?> fieldType = field.getType();
         Type fieldGenericType = field.getGenericType();
+        return getRandomMap(field.getType(), getPopulatableTypeArgument(fieldGenericType, 0),
+                getPopulatableTypeArgument(fieldGenericType, 1), context);
+    }
+
+    /*
+     * Key and value types are null for raw types and for types that are not populatable: such maps are empty.
+     */
+    @SuppressWarnings("unchecked")
+    Map<?, ?> getRandomMap(final Class<?> mapType, final Class<?> keyType, final Class<?> valueType, final RandomizationContext context) {
+        int randomSize = getRandomMapSize(context.getParameters());
         Map<Object, Object> map;
 
-        if (isInterface(fieldType)) {
-            map = (Map<Object, Object>) getEmptyImplementationForMapInterface(fieldType);
+        if (isInterface(mapType)) {
+            map = (Map<Object, Object>) getEmptyImplementationForMapInterface(mapType);
         } else {
             try {
-                map = (Map<Object, Object>) fieldType.getDeclaredConstructor().newInstance();
+                map = (Map<Object, Object>) mapType.getDeclaredConstructor().newInstance();
             } catch (InstantiationException | IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
                 // Creating EnumMap with objenesis by-passes the constructor with keyType which leads to CCE at insertion time
-                if (fieldType.isAssignableFrom(EnumMap.class)) {
-                    if (isParameterizedType(fieldGenericType)) {
-                        Type type = ((ParameterizedType) fieldGenericType).getActualTypeArguments()[0];
-                        map = new EnumMap((Class<?>)type);
+                if (mapType.isAssignableFrom(EnumMap.class)) {
+                    if (keyType != null) {
+                        map = new EnumMap(keyType);
                     } else {
                         return null;
                     }
                 } else {
-                    map = (Map<Object, Object>) objectFactory.createInstance(fieldType, context);
+                    map = (Map<Object, Object>) objectFactory.createInstance(mapType, context);
                 }
             }
         }
 
-        if (isParameterizedType(fieldGenericType)) { // populate only parameterized types, raw types will be empty
-            ParameterizedType parameterizedType = (ParameterizedType) fieldGenericType;
-            Type keyType = parameterizedType.getActualTypeArguments()[0];
-            Type valueType = parameterizedType.getActualTypeArguments()[1];
-            if (isPopulatable(keyType) && isPopulatable(valueType)) {
-                for (int index = 0; index < randomSize; index++) {
-                    Object randomKey = easyRandom.doPopulateBean((Class<?>) keyType, context);
-                    Object randomValue = easyRandom.doPopulateBean((Class<?>) valueType, context);
-                    if(randomKey != null) {
-                        map.put(randomKey, randomValue);
-                    }
+        if (keyType != null && valueType != null) {
+            for (int index = 0; index < randomSize; index++) {
+                Object randomKey = easyRandom.doPopulateBean(keyType, context);
+                Object randomValue = easyRandom.doPopulateBean(valueType, context);
+                if(randomKey != null) {
+                    map.put(randomKey, randomValue);
                 }
             }
         }
@@ -24,15 +24,24 @@
 package org.jeasy.random;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import org.jeasy.random.api.ObjectFactory;
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.ScopedRandom;
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.UndeclaredThrowableException;
 
+import static org.jeasy.random.util.ReflectionUtils.getPermittedConcreteSubTypesOf;
 import static org.jeasy.random.util.ReflectionUtils.getPublicConcreteSubTypesOf;
+import static org.jeasy.random.util.ReflectionUtils.isAbstractSealedType;
 import static org.jeasy.random.util.ReflectionUtils.isAbstract;
 
 /**
@@ -45,15 +54,23 @@ public class ObjenesisObjectFactory implements ObjectFactory {
 
     private final Objenesis objenesis = new ObjenesisStd();
 
-    private Random random;
+    private final Map<Class<?>, ObjectInstantiator<?>> instantiators = new ConcurrentHashMap<>();
+
+    private volatile Random random;
 
     @Override
     public <T> T createInstance(Class<T> type, RandomizerContext context) {
-        if (random == null) {
-            random = new Random(context.getParameters().getSeed());
-        }
-        if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(type)) {
-            List<Class<?>> publicConcreteSubTypes = getPublicConcreteSubTypesOf(type);
+        Random random = getRandom(context);
+        if (isAbstractSealedType(type)) {
+            List<Class<?>> permittedSubTypes = getPermittedConcreteSubTypesOf(type);
+            if (permittedSubTypes.isEmpty()) {
+                throw new InstantiationError("Unable to find a permitted concrete subtype of sealed type: " + type);
+            } else {
+                Class<?> randomConcreteSubType = permittedSubTypes.get(random.nextInt(permittedSubTypes.size()));
+                return (T) createNewInstance(randomConcreteSubType);
+            }
+        } else if (context.getParameters().isScanClasspathForConcreteTypes() && isAbstract(type)) {
+            List<Class<?>> publicConcreteSubTypes = getPublicConcreteSubTypesOf(type, context.getParameters());
             if (publicConcreteSubTypes.isEmpty()) {
                 throw new InstantiationError("Unable to find a matching concrete subtype of type: " + type + " in the classpath");
             } else {
@@ -69,14 +86,66 @@ public class ObjenesisObjectFactory implements ObjectFactory {
         }
     }
 
+    // thread safe generation may create instances concurrently, the random is created once for all threads
+    private Random getRandom(final RandomizerContext context) {
+        Random result = random;
+        if (result == null) {
+            synchronized (this) {
+                result = random;
+                if (result == null) {
+                    result = new ScopedRandom(context.getParameters().getSeed());
+                    random = result;
+                }
+            }
+        }
+        return result;
+    }
+
     private <T> T createNewInstance(final Class<T> type) {
-        try {
-            Constructor<T> noArgConstructor = type.getDeclaredConstructor();
-            noArgConstructor.trySetAccessible();
-            return noArgConstructor.newInstance();
-        } catch (Exception exception) {
-            return objenesis.newInstance(type);
+        return (T) instantiators.computeIfAbsent(type, this::getInstantiator).newInstance();
+    }
+
+    /*
+     * The instantiation strategy is resolved once per type: the no-arg constructor when there is an
+     * accessible one, Objenesis otherwise. When the constructor fails, Objenesis is used for this
+     * instance and all subsequent ones of the type.
+     */
+    private ObjectInstantiator<?> getInstantiator(final Class<?> type) {
+        MethodHandle noArgConstructor = getNoArgConstructor(type);
+        if (noArgConstructor == null) {
+            return objenesis.getInstantiatorOf(type);
+        }
+        return () -> {
+            try {
+                return noArgConstructor.invoke();
+            } catch (Exception exception) {
+                ObjectInstantiator<?> instantiator = objenesis.getInstantiatorOf(type);
+                instantiators.put(type, instantiator);
+                return instantiator.newInstance();
+            } catch (Throwable throwable) {
+                // errors are not recovered from, other throwables are only declared by MethodHandle#invoke
+                if (throwable instanceof Error) {
+                    throw (Error) throwable;
+                }
+                throw new UndeclaredThrowableException(throwable);
+            }
+        };
+    }
+
+    private static MethodHandle getNoArgConstructor(final Class<?> type) {
+        if (isAbstract(type)) {
+            return null;
+        }
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0 && constructor.trySetAccessible()) {
+                try {
+                    return MethodHandles.lookup().unreflectConstructor(constructor);
+                } catch (IllegalAccessException e) {
+                    return null;
+                }
+            }
         }
+        return null;
     }
 
 }
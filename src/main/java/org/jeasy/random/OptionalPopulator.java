@@ -24,12 +24,9 @@
 package org.jeasy.random;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.Optional;
 
-import static org.jeasy.random.util.ReflectionUtils.isParameterizedType;
-import static org.jeasy.random.util.ReflectionUtils.isPopulatable;
+import static org.jeasy.random.util.ReflectionUtils.getPopulatableTypeArgument;
 
 /**
  * Populator for {@link Optional} type.
@@ -45,15 +42,15 @@ class OptionalPopulator {
 	}
 
 	Optional<?> getRandomOptional(final Field field, final RandomizationContext context) {
-		Type fieldGenericType = field.getGenericType();
-		if (isParameterizedType(fieldGenericType)) { // populate only parameterized types, raw types will be empty
-			ParameterizedType parameterizedType = (ParameterizedType) fieldGenericType;
-			Type genericType = parameterizedType.getActualTypeArguments()[0];
-			if (isPopulatable(genericType)) {
-				return Optional.of(easyRandom.doPopulateBean((Class<?>) genericType, context));
-			} else {
-				return Optional.empty();
-			}
+		return getRandomOptional(getPopulatableTypeArgument(field.getGenericType(), 0), context);
+	}
+
+	/*
+	 * The element type is null for raw types and for element types that are not populatable: such optionals are empty.
+	 */
+	Optional<?> getRandomOptional(final Class<?> elementType, final RandomizationContext context) {
+		if (elementType != null) {
+			return Optional.of(easyRandom.doPopulateBean(elementType, context));
 		} else {
 			return Optional.empty();
 		}
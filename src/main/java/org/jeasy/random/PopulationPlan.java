@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.RandomizerContext;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.jeasy.random.util.ReflectionUtils.getInheritedFields;
+
+/**
+ * Immutable description of how to populate instances of a given type: the ordered list of
+ * fields to visit and whether exclusion rules have already been applied to them.
+ *
+ * A plan is computed once per type (and per {@link EasyRandom} instance, since exclusion rules
+ * are part of the randomization parameters) so that populating a bean does not introspect its
+ * class hierarchy over and over again.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class PopulationPlan {
+
+    /*
+     * Declared and inherited fields of a type, regardless of any randomization parameter.
+     * Class metadata does not change at runtime, so this is shared by all EasyRandom instances.
+     */
+    private static final ClassValue<List<Field>> INTROSPECTED_FIELDS = new ClassValue<List<Field>>() {
+        @Override
+        protected List<Field> computeValue(final Class<?> type) {
+            List<Field> fields = new ArrayList<>(asList(type.getDeclaredFields()));
+            fields.addAll(getInheritedFields(type));
+            // inner classes (and static nested classes) have a field named "this$0" that references the enclosing class.
+            // This field should be excluded
+            if (type.getEnclosingClass() != null) {
+                fields.removeIf(field -> field.getName().equals("this$0"));
+            }
+            return unmodifiableList(fields);
+        }
+    };
+
+    private final List<Field> fields;
+
+    private final boolean exclusionsApplied;
+
+    private PopulationPlan(final List<Field> fields, final boolean exclusionsApplied) {
+        this.fields = fields;
+        this.exclusionsApplied = exclusionsApplied;
+    }
+
+    /**
+     * Create the population plan of the given type.
+     *
+     * Field exclusion decisions are part of the plan only when they do not depend on the
+     * randomization context, which is the case of the {@link DefaultExclusionPolicy}. Custom
+     * policies are still consulted for each field at population time.
+     *
+     * @param type the (concrete) type to populate
+     * @param exclusionPolicy the exclusion policy in use
+     * @param context the randomization context in which the plan is first needed
+     * @return the population plan of the given type
+     */
+    static PopulationPlan of(final Class<?> type, final ExclusionPolicy exclusionPolicy, final RandomizerContext context) {
+        List<Field> fields = INTROSPECTED_FIELDS.get(type);
+        if (exclusionPolicy.getClass() != DefaultExclusionPolicy.class) {
+            return new PopulationPlan(fields, false);
+        }
+        List<Field> includedFields = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            if (!exclusionPolicy.shouldBeExcluded(field, context)) {
+                includedFields.add(field);
+            }
+        }
+        return new PopulationPlan(unmodifiableList(includedFields), true);
+    }
+
+    /**
+     * Return the fields to populate, in population order.
+     *
+     * @return the fields to populate
+     */
+    List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Have exclusion rules already been applied to the fields of this plan?
+     *
+     * @return true if the fields of this plan should not be checked for exclusion anymore
+     */
+    boolean isExclusionsApplied() {
+        return exclusionsApplied;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Factory of independent random generators derived from the seed of an {@link EasyRandom} instance.
+ *
+ * Generators are created with the {@link EasyRandomParameters#getRandomGeneratorAlgorithm() configured algorithm}
+ * if any, and are {@link SplittableRandom}s otherwise.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class RandomGenerators {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+
+    RandomGenerators(final long seed, final String algorithm) {
+        this.seed = seed;
+        this.factory = algorithm != null ? RandomGeneratorFactory.of(algorithm) : null;
+    }
+
+    /**
+     * Is a random generator algorithm configured?
+     *
+     * @return true if an algorithm is configured, false otherwise
+     */
+    boolean hasAlgorithm() {
+        return factory != null;
+    }
+
+    /**
+     * Create a generator seeded with the seed itself.
+     *
+     * @return a new generator
+     */
+    RandomGenerator create() {
+        return factory != null ? factory.create(seed) : new SplittableRandom(seed);
+    }
+
+    /**
+     * Create the generator of the given stream. Generators of different streams are statistically
+     * independent, and the generator of a given stream is always the same for a given seed.
+     *
+     * @param stream the stream number
+     * @return a new generator for the given stream
+     */
+    RandomGenerator create(final long stream) {
+        long streamSeed = mix(seed, stream);
+        return factory != null ? factory.create(streamSeed) : new SplittableRandom(streamSeed);
+    }
+
+    /*
+     * Derive a well distributed seed from (seed, stream) with the SplitMix64 finalizer,
+     * so that consecutive streams do not start from correlated states.
+     */
+    static long mix(final long seed, final long stream) {
+        long z = seed + (stream + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
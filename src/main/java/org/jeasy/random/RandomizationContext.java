@@ -24,6 +24,7 @@
 package org.jeasy.random;
 
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.util.ScopedRandom;
 
 import java.lang.reflect.Field;
 import java.util.*;
@@ -55,7 +56,7 @@ class RandomizationContext implements RandomizerContext {
         populatedBeans = new IdentityHashMap<>();
         stack = new Stack<>();
         this.parameters = parameters;
-        this.random = new Random(parameters.getSeed());
+        this.random = new ScopedRandom(parameters.getSeed());
     }
 
     void addPopulatedBean(final Class<?> type, Object object) {
@@ -100,7 +101,7 @@ class RandomizationContext implements RandomizerContext {
     }
 
     private List<String> getStackedFieldNames() {
-        return stack.stream().map(i -> i.getField().getName()).collect(toList());
+        return stack.stream().map(RandomizationContextStackItem::getFieldName).collect(toList());
     }
 
     private List<String> toLowerCase(final List<String> strings) {
@@ -36,9 +36,20 @@ class RandomizationContextStackItem {
 
     private Field field;
 
+    private String fieldName;
+
     RandomizationContextStackItem(final Object object, final Field field) {
         this.object = object;
         this.field = field;
+        this.fieldName = field.getName();
+    }
+
+    /*
+     * Generated populators do not use reflection, so they only know the name of the field.
+     */
+    RandomizationContextStackItem(final Object object, final String fieldName) {
+        this.object = object;
+        this.fieldName = fieldName;
     }
 
     public Object getObject() {
@@ -55,5 +66,10 @@ class RandomizationContextStackItem {
 
     public void setField(Field field) {
         this.field = field;
+        this.fieldName = field.getName();
+    }
+
+    public String getFieldName() {
+        return fieldName;
     }
 }
@@ -30,10 +30,17 @@ import org.jeasy.random.api.RandomizerRegistry;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Central class to get registered randomizers by Field or by Type.
  *
+ * Resolved randomizers (including the absence of a randomizer) are cached by field and by type,
+ * so that registries are only queried once for each of them. The cache is invalidated whenever
+ * registries are set, and can be invalidated explicitly with {@link #invalidateCache()} when the
+ * content of a registry changes.
+ *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 class RegistriesRandomizerProvider implements RandomizerProvider {
@@ -42,20 +49,63 @@ class RegistriesRandomizerProvider implements RandomizerProvider {
 
     private final Comparator<Object> priorityComparator = new PriorityComparator();
 
+    // ConcurrentHashMap does not accept null values, so the absence of randomizer is cached with this marker
+    private static final Randomizer<?> NO_RANDOMIZER = () -> null;
+
+    private final Map<Field, Randomizer<?>> randomizersByField = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Randomizer<?>> randomizersByType = new ConcurrentHashMap<>();
+
+    // incremented on each invalidation, so that users of resolved randomizers can tell when they are outdated
+    private final AtomicInteger cacheVersion = new AtomicInteger();
+
     @Override
     public Randomizer<?> getRandomizerByField(Field field, RandomizerContext context) {
-        return getRandomizer(new ByFieldProvider(field));
+        Randomizer<?> randomizer = randomizersByField.get(field);
+        if (randomizer == null) {
+            randomizer = cache(randomizersByField, field, getRandomizer(new ByFieldProvider(field)));
+        }
+        return randomizer == NO_RANDOMIZER ? null : randomizer;
     }
 
     @Override
     public <T> Randomizer<T> getRandomizerByType(Class<T> type, RandomizerContext context) {
-        return (Randomizer<T>) getRandomizer(new ByTypeProvider(type));
+        Randomizer<?> randomizer = randomizersByType.get(type);
+        if (randomizer == null) {
+            randomizer = cache(randomizersByType, type, getRandomizer(new ByTypeProvider(type)));
+        }
+        return randomizer == NO_RANDOMIZER ? null : (Randomizer<T>) randomizer;
     }
 
     @Override
     public void setRandomizerRegistries(Set<RandomizerRegistry> randomizerRegistries) {
         this.registries.addAll(randomizerRegistries);
         this.registries.sort(priorityComparator);
+        invalidateCache();
+    }
+
+    /**
+     * Clear resolved randomizers. This should be called when the content of a registry changes.
+     */
+    void invalidateCache() {
+        randomizersByField.clear();
+        randomizersByType.clear();
+        cacheVersion.incrementAndGet();
+    }
+
+    /**
+     * Return the version of the cache, which changes each time the cache is invalidated.
+     *
+     * @return the version of the cache
+     */
+    int getCacheVersion() {
+        return cacheVersion.get();
+    }
+
+    private static <K> Randomizer<?> cache(final Map<K, Randomizer<?>> cache, final K key, final Randomizer<?> randomizer) {
+        Randomizer<?> value = randomizer != null ? randomizer : NO_RANDOMIZER;
+        Randomizer<?> previous = cache.putIfAbsent(key, value);
+        return previous != null ? previous : value;
     }
 
     private Randomizer<?> getRandomizer(final Provider provider) {
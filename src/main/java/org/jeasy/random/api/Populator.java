@@ -0,0 +1,64 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+/**
+ * Reflection free population of the instances of a given type. Populators are usually generated at
+ * compile time for classes annotated with {@link org.jeasy.random.annotation.GenerateRandom}, and
+ * are registered as services (in {@code META-INF/services/org.jeasy.random.api.Populator}).
+ *
+ * A populator creates instances and populates their fields with code generated for each field: it
+ * reads and writes the field (with its getter and setter if any) and asks its {@link PopulatorContext}
+ * for a value of the type of the field, or for a collection, map or optional of the type arguments
+ * of the field. Randomizers are resolved by type, so populators are only used by
+ * {@link org.jeasy.random.EasyRandom} when no randomizer or exclusion depends on fields (which is the
+ * default configuration): other configurations populate fields with reflection.
+ *
+ * @param <T> the type of objects this populator populates
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public interface Populator<T> {
+
+    /**
+     * Return the type of objects this populator populates.
+     *
+     * @return the type of objects this populator populates
+     */
+    Class<T> getType();
+
+    /**
+     * Create a new instance of the type with its no-arg constructor.
+     *
+     * @return a new instance, or null if the type has no accessible no-arg constructor
+     */
+    T newInstance();
+
+    /**
+     * Populate the fields of the given object, including inherited ones, with random values.
+     *
+     * @param bean the object to populate
+     * @param context the context providing random values
+     */
+    void populate(T bean, PopulatorContext context);
+}
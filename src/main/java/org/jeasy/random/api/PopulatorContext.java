@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.api;
+
+/**
+ * Context of a {@link Populator}, providing random values for the fields of the object it populates.
+ *
+ * Values are generated with the same rules as for fields populated with reflection, from the type of the
+ * field only. Methods generating values for a field take the object being populated and the name of the
+ * field, so that {@link ContextAwareRandomizer}s see the same context as usual.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public interface PopulatorContext {
+
+    /**
+     * Value returned when the field should not be populated.
+     */
+    Object SKIP = new Object();
+
+    /**
+     * Return true if fields should be populated even if they have a non default value.
+     *
+     * @return true if default initialization of fields should be overridden
+     */
+    boolean isOverrideDefaultInitialization();
+
+    /**
+     * Return true if fields should be written directly, even if they have a setter.
+     *
+     * @return true if setters should be bypassed
+     */
+    boolean isBypassSetters();
+
+    /**
+     * Return the randomizer registered for the given type, if any. This allows primitive
+     * fields to be populated without boxing their values (see {@link PrimitiveIntRandomizer}).
+     *
+     * @param type the type of the field
+     * @return the randomizer registered for the given type, or null if none
+     */
+    Randomizer<?> getRandomizer(Class<?> type);
+
+    /**
+     * Generate a random value for a field.
+     *
+     * @param bean the object being populated
+     * @param fieldName the name of the field
+     * @param type the type of the field
+     * @return a random value, or {@link #SKIP} if the field should not be populated
+     */
+    Object nextValue(Object bean, String fieldName, Class<?> type);
+
+    /**
+     * Generate a random collection for a field.
+     *
+     * @param bean the object being populated
+     * @param fieldName the name of the field
+     * @param type the type of the field
+     * @param elementType the type of the elements, or null if the collection should be empty
+     * (for raw types or elements that cannot be populated, like parameterized types)
+     * @return a random collection, or {@link #SKIP} if the field should not be populated
+     */
+    Object nextCollection(Object bean, String fieldName, Class<?> type, Class<?> elementType);
+
+    /**
+     * Generate a random map for a field.
+     *
+     * @param bean the object being populated
+     * @param fieldName the name of the field
+     * @param type the type of the field
+     * @param keyType the type of the keys, or null if it cannot be populated
+     * @param valueType the type of the values, or null if it cannot be populated
+     * @return a random map, empty if keys or values cannot be populated, or {@link #SKIP} if the field should not be populated
+     */
+    Object nextMap(Object bean, String fieldName, Class<?> type, Class<?> keyType, Class<?> valueType);
+
+    /**
+     * Generate a random optional for a field.
+     *
+     * @param bean the object being populated
+     * @param fieldName the name of the field
+     * @param elementType the type of the value, or null if the optional should be empty
+     * @return a random optional, or {@link #SKIP} if the field should not be populated
+     */
+    Object nextOptional(Object bean, String fieldName, Class<?> elementType);
+
+    /**
+     * Populate a field with reflection, for fields whose value cannot be generated from their type only
+     * (like fields annotated with {@link org.jeasy.random.annotation.Randomizer} or generic fields), or
+     * which cannot be accessed by generated code.
+     *
+     * @param bean the object being populated
+     * @param declaringClassName the binary name of the class declaring the field
+     * @param fieldName the name of the field
+     */
+    void populateField(Object bean, String declaringClassName, String fieldName);
+}
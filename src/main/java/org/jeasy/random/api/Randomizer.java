@@ -23,6 +23,10 @@
  */
 package org.jeasy.random.api;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Interface for custom randomizer.
  *
@@ -39,4 +43,51 @@ public interface Randomizer<T> {
      */
     T getRandomValue();
 
+    /**
+     * Generate the given number of random values.
+     *
+     * Values are generated in the same order as successive calls to {@link #getRandomValue()},
+     * so the result is the same as generating them one by one. Implementations may override
+     * this method to generate values in batch.
+     *
+     * @param count the number of values to generate
+     * @return a list of random values for the given type
+     */
+    default List<T> getRandomValues(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of values to generate must be >= 0");
+        }
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(getRandomValue());
+        }
+        return values;
+    }
+
+    /**
+     * Fill the given array with random values.
+     *
+     * The array can be an array of objects or an array of primitives. Unless specified otherwise
+     * by the implementation, elements are generated in the same order as successive calls to
+     * {@link #getRandomValue()}, so the result is the same as generating them one by one.
+     * Implementations may override this method to fill arrays of primitives without boxing values.
+     *
+     * @param array the array to fill
+     * @throws IllegalArgumentException if the argument is not an array or if a value cannot be stored in it
+     * @throws ArrayStoreException if a value cannot be stored in an array of objects
+     */
+    default void fill(final Object array) {
+        if (array instanceof Object[]) {
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getRandomValue();
+            }
+            return;
+        }
+        int length = Array.getLength(array);
+        for (int i = 0; i < length; i++) {
+            Array.set(array, i, getRandomValue());
+        }
+    }
+
 }
@@ -0,0 +1,592 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates a {@link org.jeasy.random.api.Populator} for each class annotated
+ * with {@link org.jeasy.random.annotation.GenerateRandom}, and registers it as a service. Generated
+ * populators create instances with the no-arg constructor of the class, and populate each of its fields
+ * (declared and inherited) with generated code: the field is read and written with the same rules as
+ * the reflective population (getters and setters are used when they are public, fields are accessed
+ * directly otherwise), and its value is generated from its type, with primitive randomizers, or as a
+ * collection, map or optional of its type arguments. Fields annotated with
+ * {@link org.jeasy.random.annotation.Exclude} are skipped. Fields annotated with
+ * {@link org.jeasy.random.annotation.Randomizer}, fields of generic or abstract types, and fields that are
+ * shadowed in the class hierarchy are populated with reflection, as are fields that cannot be accessed from
+ * the package of the class (a warning is reported for them) and private or final fields with a setter when
+ * setters are bypassed.
+ *
+ * The processor also writes the GraalVM reachability metadata of annotated classes to
+ * {@value #REFLECT_CONFIG_RESOURCE}, so that they can be generated in native images without
+ * configuration.
+ *
+ * Like the {@link SubTypeIndexProcessor}, this processor is not registered as a service, it should be
+ * enabled explicitly, for example with {@code javac -processor org.jeasy.random.processor.PopulatorProcessor}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@SupportedAnnotationTypes(PopulatorProcessor.GENERATE_RANDOM)
+public class PopulatorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_RANDOM = "org.jeasy.random.annotation.GenerateRandom";
+
+    private static final String EXCLUDE = "org.jeasy.random.annotation.Exclude";
+
+    private static final String RANDOMIZER = "org.jeasy.random.annotation.Randomizer";
+
+    private static final String POPULATOR_CONTEXT = "org.jeasy.random.api.PopulatorContext";
+
+    private static final String POPULATORS_RESOURCE = "META-INF/services/org.jeasy.random.api.Populator";
+
+    /**
+     * Location of the GraalVM reachability metadata of annotated classes in the classpath.
+     */
+    public static final String REFLECT_CONFIG_RESOURCE = "META-INF/native-image/easy-random/populators/reflect-config.json";
+
+    private final Set<String> populatorNames = new TreeSet<>();
+
+    // annotated classes and their super classes, introspected at runtime
+    private final Set<String> reflectedTypeNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeServices();
+            writeReflectConfig();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                if (isSupported(element)) {
+                    generatePopulator((TypeElement) element);
+                }
+            }
+        }
+        // do not claim annotations, other processors may need them
+        return false;
+    }
+
+    private boolean isSupported(final Element element) {
+        String reason = null;
+        if (element.getKind() != ElementKind.CLASS) {
+            reason = "only classes are supported";
+        } else if (element.getModifiers().contains(Modifier.ABSTRACT)) {
+            reason = "abstract classes cannot be instantiated";
+        } else if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            reason = "private classes are not accessible";
+        } else if (((TypeElement) element).getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC)) {
+            reason = "inner classes cannot be instantiated without their enclosing instance";
+        } else if (((TypeElement) element).getNestingKind().isNested() && ((TypeElement) element).getNestingKind() != NestingKind.MEMBER) {
+            reason = "local and anonymous classes are not accessible";
+        }
+        if (reason != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to generate a populator for " + element + ": " + reason, element);
+            return false;
+        }
+        return true;
+    }
+
+    private void generatePopulator(final TypeElement type) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.getQualifiedName().toString();
+        String typeName = erasure(type.asType());
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_')
+                + "_Populator";
+        String populatorName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        List<Property> properties = getProperties(type, packageElement);
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(PopulatorProcessor.class.getName()).append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName).append(" implements org.jeasy.random.api.Populator<").append(typeName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public Class<").append(typeName).append("> getType() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(typeName).append(" newInstance() {\n")
+                .append("        return ").append(hasAccessibleNoArgConstructor(type, packageElement) ? "new " + typeName + "()" : "null").append(";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void populate(").append(typeName).append(" bean, ").append(POPULATOR_CONTEXT).append(" context) {\n");
+        for (Property property : properties) {
+            if (property.kind == null) {
+                source.append("        ").append(populateWithReflection(property)).append('\n');
+            } else {
+                source.append("        populate_").append(property.name).append("(bean, context);\n");
+            }
+        }
+        source.append("    }\n");
+        for (Property property : properties) {
+            if (property.kind != null) {
+                appendPopulateMethod(source, typeName, property);
+                appendSetMethod(source, typeName, property);
+            }
+        }
+        source.append("}\n");
+
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(populatorName, type);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source.toString());
+            }
+            populatorNames.add(populatorName);
+            addReflectedTypes(type);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + populatorName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /*
+     * Populate a field with the same rules as the reflective population: fields with a non default value are
+     * skipped unless default initialization is overridden, and primitive randomizers are used without boxing.
+     */
+    private void appendPopulateMethod(final StringBuilder source, final String typeName, final Property property) {
+        source.append("\n    private static void populate_").append(property.name).append("(").append(typeName).append(" bean, ")
+                .append(POPULATOR_CONTEXT).append(" context) {\n");
+        if (property.setter != null && !property.writable) {
+            source.append("        if (context.isBypassSetters()) {\n")
+                    .append("            ").append(populateWithReflection(property)).append('\n')
+                    .append("            return;\n")
+                    .append("        }\n");
+        }
+        String value = "bean." + (property.getter != null ? property.getter + "()" : property.name);
+        String nonDefaultValue;
+        if (property.kind != Kind.PRIMITIVE) {
+            nonDefaultValue = value + " != null";
+        } else if (property.type.equals("boolean")) {
+            nonDefaultValue = value;
+        } else {
+            nonDefaultValue = value + " != 0";
+        }
+        source.append("        if (!context.isOverrideDefaultInitialization() && ").append(nonDefaultValue).append(") {\n")
+                .append("            return;\n")
+                .append("        }\n");
+        String fieldName = '"' + property.name + '"';
+        String valueType = property.type;
+        switch (property.kind) {
+            case PRIMITIVE:
+                String primitiveRandomizer = "org.jeasy.random.api.Primitive" + capitalize(property.type) + "Randomizer";
+                valueType = "java.lang." + (property.type.equals("int") ? "Integer" : property.type.equals("char") ? "Character" : capitalize(property.type));
+                source.append("        org.jeasy.random.api.Randomizer<?> randomizer = context.getRandomizer(").append(property.type).append(".class);\n")
+                        .append("        if (randomizer instanceof ").append(primitiveRandomizer)
+                        .append(" && !(randomizer instanceof org.jeasy.random.api.ContextAwareRandomizer)) {\n")
+                        .append("            set_").append(property.name).append("(bean, context, ((").append(primitiveRandomizer).append(") randomizer).getRandom")
+                        .append(capitalize(property.type)).append("());\n")
+                        .append("            return;\n")
+                        .append("        }\n")
+                        .append("        Object value = context.nextValue(bean, ").append(fieldName).append(", ").append(property.type).append(".class);\n");
+                break;
+            case COLLECTION:
+                source.append("        Object value = context.nextCollection(bean, ").append(fieldName).append(", ").append(property.type).append(".class, ")
+                        .append(property.typeArguments.get(0)).append(");\n");
+                break;
+            case MAP:
+                source.append("        Object value = context.nextMap(bean, ").append(fieldName).append(", ").append(property.type).append(".class, ")
+                        .append(property.typeArguments.get(0)).append(", ").append(property.typeArguments.get(1)).append(");\n");
+                break;
+            case OPTIONAL:
+                source.append("        Object value = context.nextOptional(bean, ").append(fieldName).append(", ")
+                        .append(property.typeArguments.get(0)).append(");\n");
+                break;
+            default:
+                source.append("        Object value = context.nextValue(bean, ").append(fieldName).append(", ").append(property.type).append(".class);\n");
+        }
+        source.append("        if (value != ").append(POPULATOR_CONTEXT).append(".SKIP) {\n")
+                .append("            set_").append(property.name).append("(bean, context, (").append(valueType).append(") value);\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    private void appendSetMethod(final StringBuilder source, final String typeName, final Property property) {
+        source.append("\n    private static void set_").append(property.name).append("(").append(typeName).append(" bean, ")
+                .append(POPULATOR_CONTEXT).append(" context, ").append(property.type).append(" value) {\n");
+        String fieldWrite = "bean." + property.name + " = value;";
+        if (property.setter == null) {
+            source.append("        ").append(fieldWrite).append('\n');
+        } else {
+            if (property.writable) {
+                source.append("        if (context.isBypassSetters()) {\n")
+                        .append("            ").append(fieldWrite).append('\n')
+                        .append("            return;\n")
+                        .append("        }\n");
+            }
+            source.append("        try {\n")
+                    .append("            bean.").append(property.setter).append("(value);\n")
+                    .append("        } catch (Exception e) {\n")
+                    .append("            throw new org.jeasy.random.ObjectCreationException(\"Unable to invoke setter for field ")
+                    .append(property.name).append(" of class \" + bean.getClass().getName(), e);\n")
+                    .append("        }\n");
+        }
+        source.append("    }\n");
+    }
+
+    private static String populateWithReflection(final Property property) {
+        return "context.populateField(bean, \"" + property.declaringClassName + "\", \"" + property.name + "\");";
+    }
+
+    /*
+     * Fields of the type and its super classes, in the order of the reflective population. Fields whose value
+     * cannot be generated from their type only, that are shadowed in the class hierarchy or that cannot be
+     * accessed from the package of the type are populated with reflection (their kind is null).
+     */
+    private List<Property> getProperties(final TypeElement type, final PackageElement packageElement) {
+        Map<String, Integer> fieldCounts = new HashMap<>();
+        List<VariableElement> fields = new ArrayList<>();
+        TypeElement currentType = type;
+        while (currentType != null && currentType.getKind() == ElementKind.CLASS
+                && !currentType.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    fieldCounts.merge(field.getSimpleName().toString(), 1, Integer::sum);
+                    fields.add(field);
+                }
+            }
+            TypeMirror superclass = currentType.getSuperclass();
+            currentType = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement field : fields) {
+            if (isAnnotatedWith(field, EXCLUDE)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            String declaringClassName = processingEnv.getElementUtils().getBinaryName((TypeElement) field.getEnclosingElement()).toString();
+            String fieldType = erasure(field.asType());
+            boolean readable = isAccessible(field, packageElement);
+            boolean writable = readable && !field.getModifiers().contains(Modifier.FINAL);
+            ExecutableElement getter = getGetter(field);
+            ExecutableElement setter = getSetter(field);
+            Kind kind = null;
+            List<String> typeArguments = null;
+            if (fieldCounts.get(name) == 1 && !isAnnotatedWith(field, RANDOMIZER)) {
+                kind = getKind(field.asType(), packageElement);
+                typeArguments = kind != null ? getTypeArguments(field.asType(), kind, packageElement) : null;
+                if (typeArguments == null) {
+                    kind = null;
+                }
+            }
+            if (kind != null && (!(readable || getter != null) || !(writable || setter != null))) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Field " + name + " of " + declaringClassName
+                        + " cannot be accessed from the generated populator, it will be populated with reflection", field);
+                kind = null;
+            }
+            properties.add(new Property(name, declaringClassName, kind, fieldType, typeArguments, writable,
+                    getter != null ? getter.getSimpleName().toString() : null,
+                    setter != null ? setter.getSimpleName().toString() : null));
+        }
+        return properties;
+    }
+
+    /*
+     * Values are generated from the (erased) type of the field, like the reflective population does, except for
+     * abstract types which may be resolved to one of their concrete subtypes by classpath scanning.
+     */
+    private Kind getKind(final TypeMirror type, final PackageElement packageElement) {
+        if (type.getKind().isPrimitive()) {
+            return Kind.PRIMITIVE;
+        }
+        if (type.getKind() != TypeKind.DECLARED && type.getKind() != TypeKind.ARRAY || !isAccessible(erasedType(type), packageElement)) {
+            return null;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return Kind.VALUE;
+        }
+        if (isSubtypeOf(type, Collection.class)) {
+            return Kind.COLLECTION;
+        }
+        if (isSubtypeOf(type, Map.class)) {
+            return Kind.MAP;
+        }
+        if (isSubtypeOf(type, Optional.class)) {
+            return Kind.OPTIONAL;
+        }
+        Element element = ((DeclaredType) type).asElement();
+        if (element.getKind() != ElementKind.ENUM && (element.getKind().isInterface() || element.getModifiers().contains(Modifier.ABSTRACT))) {
+            return null;
+        }
+        return Kind.VALUE;
+    }
+
+    /*
+     * Class literals of the type arguments of collections, maps and optionals, or "null" for type arguments that
+     * are not populatable (like ReflectionUtils#isPopulatable). Return null if the field should be populated with
+     * reflection, for generic array type arguments or type arguments that are not accessible.
+     */
+    private List<String> getTypeArguments(final TypeMirror type, final Kind kind, final PackageElement packageElement) {
+        int count = kind == Kind.MAP ? 2 : kind == Kind.COLLECTION || kind == Kind.OPTIONAL ? 1 : 0;
+        List<String> typeArguments = new ArrayList<>();
+        if (count == 0) {
+            return typeArguments;
+        }
+        List<? extends TypeMirror> actualTypeArguments = ((DeclaredType) type).getTypeArguments();
+        if (actualTypeArguments.isEmpty()) {
+            // raw types are not populated
+            typeArguments.addAll(Collections.nCopies(count, "null"));
+            return typeArguments;
+        }
+        if (actualTypeArguments.size() < count) {
+            return null;
+        }
+        for (TypeMirror typeArgument : actualTypeArguments.subList(0, count)) {
+            boolean populatable = typeArgument.getKind() == TypeKind.DECLARED && ((DeclaredType) typeArgument).getTypeArguments().isEmpty()
+                    || typeArgument.getKind() == TypeKind.ARRAY;
+            if (!populatable) {
+                typeArguments.add("null");
+            } else if (processingEnv.getTypeUtils().isSameType(typeArgument, erasedType(typeArgument)) && isAccessible(typeArgument, packageElement)) {
+                typeArguments.add(erasure(typeArgument) + ".class");
+            } else {
+                return null;
+            }
+        }
+        return typeArguments;
+    }
+
+    private boolean isSubtypeOf(final TypeMirror type, final Class<?> superType) {
+        TypeElement superTypeElement = processingEnv.getElementUtils().getTypeElement(superType.getName());
+        return processingEnv.getTypeUtils().isSubtype(erasedType(type), erasedType(superTypeElement.asType()));
+    }
+
+    private static boolean isAnnotatedWith(final Element element, final String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Getters are only used to check default values, they should return the type of the field.
+     */
+    private ExecutableElement getGetter(final VariableElement field) {
+        String capitalizedName = capitalize(field.getSimpleName().toString());
+        ExecutableElement getter = getPublicMethod(field, "get" + capitalizedName, null);
+        if (getter == null) {
+            getter = getPublicMethod(field, "is" + capitalizedName, null);
+        }
+        return getter != null && processingEnv.getTypeUtils().isSameType(
+                erasedType(getter.getReturnType()), erasedType(field.asType())) ? getter : null;
+    }
+
+    private ExecutableElement getSetter(final VariableElement field) {
+        return getPublicMethod(field, "set" + capitalize(field.getSimpleName().toString()), field.asType());
+    }
+
+    /*
+     * Public methods of the declaring class of the field with the given name, and the given parameter type
+     * (or no parameter if the type is null), like ReflectionUtils#getPublicMethod.
+     */
+    private ExecutableElement getPublicMethod(final VariableElement field, final String name, final TypeMirror parameterType) {
+        TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(declaringType))) {
+            if (!method.getSimpleName().contentEquals(name) || !method.getModifiers().contains(Modifier.PUBLIC)
+                    || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            List<? extends VariableElement> parameters = method.getParameters();
+            if (parameterType == null ? parameters.isEmpty()
+                    : parameters.size() == 1 && processingEnv.getTypeUtils().isSameType(
+                            processingEnv.getTypeUtils().erasure(parameters.get(0).asType()), processingEnv.getTypeUtils().erasure(parameterType))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasAccessibleNoArgConstructor(final TypeElement type, final PackageElement packageElement) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return isAccessible(constructor, packageElement);
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(final Element member, final PackageElement packageElement) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE) && processingEnv.getElementUtils().getPackageOf(member).equals(packageElement);
+    }
+
+    /*
+     * Types are accessible if they are primitive or if all their enclosing types are accessible.
+     */
+    private boolean isAccessible(final TypeMirror type, final PackageElement packageElement) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType(), packageElement);
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return type.getKind().isPrimitive();
+        }
+        for (Element element = ((DeclaredType) type).asElement(); element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!isAccessible(element, packageElement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String erasure(final TypeMirror type) {
+        return erasedType(type).toString();
+    }
+
+    private TypeMirror erasedType(final TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type);
+    }
+
+    private static String capitalize(final String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void writeServices() {
+        if (populatorNames.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject services = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", POPULATORS_RESOURCE);
+            try (Writer writer = services.openWriter()) {
+                for (String populatorName : populatorNames) {
+                    writer.write(populatorName);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + POPULATORS_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    private void addReflectedTypes(final TypeElement type) {
+        TypeElement currentType = type;
+        while (currentType != null && !currentType.getQualifiedName().contentEquals(Object.class.getName())) {
+            reflectedTypeNames.add(processingEnv.getElementUtils().getBinaryName(currentType).toString());
+            TypeMirror superclass = currentType.getSuperclass();
+            currentType = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+    }
+
+    /*
+     * Some fields of annotated classes are populated with reflection, and so are all fields when generated populators cannot be
+     * used (see org.jeasy.random.api.Populator), so annotated classes should be registered for reflection in native images.
+     */
+    private void writeReflectConfig() {
+        if (reflectedTypeNames.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject reflectConfig = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", REFLECT_CONFIG_RESOURCE);
+            try (Writer writer = reflectConfig.openWriter()) {
+                writer.write("[\n");
+                int index = 0;
+                for (String reflectedTypeName : reflectedTypeNames) {
+                    writer.write("  {\n");
+                    writer.write("    \"name\": \"" + reflectedTypeName + "\",\n");
+                    writer.write("    \"allDeclaredFields\": true,\n");
+                    writer.write("    \"allDeclaredConstructors\": true,\n");
+                    writer.write("    \"allPublicMethods\": true\n");
+                    writer.write(++index < reflectedTypeNames.size() ? "  },\n" : "  }\n");
+                }
+                writer.write("]\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + REFLECT_CONFIG_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    private enum Kind {
+        PRIMITIVE, VALUE, COLLECTION, MAP, OPTIONAL
+    }
+
+    private static final class Property {
+
+        private final String name;
+        private final String declaringClassName;
+        // null when the field is populated with reflection
+        private final Kind kind;
+        private final String type;
+        private final List<String> typeArguments;
+        private final boolean writable;
+        private final String getter;
+        private final String setter;
+
+        private Property(final String name, final String declaringClassName, final Kind kind, final String type,
+                         final List<String> typeArguments, final boolean writable, final String getter, final String setter) {
+            this.name = name;
+            this.declaringClassName = declaringClassName;
+            this.kind = kind;
+            this.type = type;
+            this.typeArguments = typeArguments;
+            this.writable = writable;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that records, at compile time, the public concrete subtypes of the interfaces and
+ * classes extended by the compiled classes. The index is written to {@value #SUBTYPE_INDEX_RESOURCE}, and
+ * is used instead of scanning the classpath when looking for concrete types
+ * (see {@link org.jeasy.random.EasyRandomParameters#scanClasspathForConcreteTypes(boolean)}).
+ *
+ * This processor is not registered as a service, it should be enabled explicitly, for example with
+ * {@code javac -processor org.jeasy.random.processor.SubTypeIndexProcessor} or the
+ * {@code annotationProcessors} option of the Maven compiler plugin. Only the classes of the compilation
+ * units in which it is enabled are indexed.
+ *
+ * The first line of the index lists the packages of the compiled classes. An index is only used for the
+ * packages it lists, other packages are scanned. When only some classes are compiled again, as with
+ * incremental compilation, the previous index of the output directory is updated instead of replaced.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+@SupportedAnnotationTypes("*")
+public class SubTypeIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the subtype index in the classpath.
+     */
+    public static final String SUBTYPE_INDEX_RESOURCE = "META-INF/easy-random/subtypes.idx";
+
+    /**
+     * Prefix of the first line of the index, listing the comma separated names of the indexed packages.
+     */
+    public static final String INDEXED_PACKAGES_PREFIX = "#packages=";
+
+    private final Map<String, Set<String>> subTypeNames = new TreeMap<>();
+
+    private final Set<String> indexedPackages = new TreeSet<>();
+
+    // all types compiled by this compilation, whose previous index entries are obsolete
+    private final Set<String> compiledTypeNames = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeIndex();
+        } else {
+            for (Element element : roundEnvironment.getRootElements()) {
+                index(element);
+            }
+        }
+        // do not claim annotations, other processors may need them
+        return false;
+    }
+
+    private void index(final Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+        compiledTypeNames.add(name);
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        if (!packageName.isEmpty()) {
+            indexedPackages.add(packageName);
+        }
+        if ((type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.ENUM || type.getKind() == ElementKind.RECORD)
+                && type.getModifiers().contains(Modifier.PUBLIC) && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+            for (String superTypeName : getSuperTypeNames(type)) {
+                subTypeNames.computeIfAbsent(superTypeName, key -> new TreeSet<>()).add(name);
+            }
+        }
+        for (Element enclosedElement : type.getEnclosedElements()) {
+            index(enclosedElement);
+        }
+    }
+
+    private Set<String> getSuperTypeNames(final TypeElement type) {
+        Set<String> superTypeNames = new HashSet<>();
+        Deque<TypeMirror> superTypes = new ArrayDeque<>(processingEnv.getTypeUtils().directSupertypes(type.asType()));
+        while (!superTypes.isEmpty()) {
+            TypeMirror superType = superTypes.pop();
+            if (superType.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+            TypeElement superTypeElement = (TypeElement) ((DeclaredType) superType).asElement();
+            String superTypeName = processingEnv.getElementUtils().getBinaryName(superTypeElement).toString();
+            if (!superTypeName.equals(Object.class.getName()) && superTypeNames.add(superTypeName)) {
+                superTypes.addAll(processingEnv.getTypeUtils().directSupertypes(superType));
+            }
+        }
+        return superTypeNames;
+    }
+
+    private void writeIndex() {
+        if (compiledTypeNames.isEmpty()) {
+            return;
+        }
+        mergePreviousIndex();
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SUBTYPE_INDEX_RESOURCE);
+            try (Writer writer = index.openWriter()) {
+                writer.write(INDEXED_PACKAGES_PREFIX);
+                writer.write(String.join(",", indexedPackages));
+                writer.write('\n');
+                for (Map.Entry<String, Set<String>> entry : subTypeNames.entrySet()) {
+                    if (!entry.getValue().isEmpty()) {
+                        writer.write(entry.getKey());
+                        writer.write('=');
+                        writer.write(String.join(",", entry.getValue()));
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + SUBTYPE_INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    /*
+     * Keep the entries of the previous index for the types that are not compiled again. Types that have been
+     * deleted since are left in the index, they are skipped when their class cannot be loaded.
+     */
+    private void mergePreviousIndex() {
+        String previousIndex;
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SUBTYPE_INDEX_RESOURCE);
+            previousIndex = index.getCharContent(false).toString();
+        } catch (IOException | IllegalArgumentException e) {
+            // no previous index
+            return;
+        }
+        for (String line : previousIndex.split("\n")) {
+            if (line.startsWith(INDEXED_PACKAGES_PREFIX)) {
+                for (String packageName : line.substring(INDEXED_PACKAGES_PREFIX.length()).split(",")) {
+                    if (!packageName.isEmpty()) {
+                        indexedPackages.add(packageName);
+                    }
+                }
+                continue;
+            }
+            int separator = line.indexOf('=');
+            if (separator > 0) {
+                Set<String> names = subTypeNames.computeIfAbsent(line.substring(0, separator), key -> new TreeSet<>());
+                for (String name : line.substring(separator + 1).split(",")) {
+                    if (!name.isEmpty() && !compiledTypeNames.contains(name)) {
+                        names.add(name);
+                    }
+                }
+            }
+        }
+    }
+}
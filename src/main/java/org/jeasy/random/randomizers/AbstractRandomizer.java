@@ -24,6 +24,7 @@
 package org.jeasy.random.randomizers;
 
 import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.util.ScopedRandom;
 
 import java.util.Random;
 
@@ -39,11 +40,11 @@ public abstract class AbstractRandomizer<T> implements Randomizer<T>  {
     protected final Random random;
 
     protected AbstractRandomizer() {
-        random = new Random();
+        random = new ScopedRandom();
     }
 
     protected AbstractRandomizer(final long seed) {
-        random = new Random(seed);
+        random = new ScopedRandom(seed);
     }
 
     protected String[] getPredefinedValuesOf(final String key) {
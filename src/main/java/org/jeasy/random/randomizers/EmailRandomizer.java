@@ -75,7 +75,7 @@ public class EmailRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return safe ? faker.internet().safeEmailAddress() : faker.internet().emailAddress();
+        return generate(sharedFaker -> safe ? sharedFaker.internet().safeEmailAddress() : sharedFaker.internet().emailAddress());
     }
 
 }
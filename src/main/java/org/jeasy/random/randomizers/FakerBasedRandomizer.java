@@ -24,22 +24,45 @@
 package org.jeasy.random.randomizers;
 
 import net.datafaker.Faker;
+import net.datafaker.service.FakeValuesService;
+import net.datafaker.service.FakerContext;
+import net.datafaker.service.RandomService;
 import org.jeasy.random.api.Randomizer;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Abstract {@link Randomizer} based on <a href="https://github.com/datafaker-net/datafaker">Data Faker</a>.
  *
+ * Each randomizer has its own {@link #faker}, drawing from the random state of this randomizer.
+ * Fakers of the same locale share their loaded dictionaries. Values can also be generated with
+ * {@link #generate(Function)}, which hands a {@link Faker} shared by all randomizers of the same locale,
+ * and thus its providers, bound to the random state of this randomizer.
+ *
  * @param <T> the element type
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
 public abstract class FakerBasedRandomizer<T> extends AbstractRandomizer<T> {
 
+    private static final Map<Locale, Faker> FAKERS = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<FakerBasedRandomizer<?>> CURRENT_RANDOMIZER = new ThreadLocal<>();
+
+    /**
+     * The {@link Faker} of this randomizer, drawing from its random state.
+     */
     protected final Faker faker;
 
+    private final Locale locale;
+
     protected FakerBasedRandomizer() {
-        faker = new Faker(Locale.ENGLISH);
+        locale = Locale.ENGLISH;
+        faker = createFaker(locale);
     }
 
     protected FakerBasedRandomizer(final long seed) {
@@ -48,6 +71,128 @@ public abstract class FakerBasedRandomizer<T> extends AbstractRandomizer<T> {
 
     protected FakerBasedRandomizer(final long seed, final Locale locale) {
         super(seed);
-        faker = new Faker(locale, random);
+        this.locale = locale;
+        faker = createFaker(locale);
+    }
+
+    /**
+     * Generate a value with the {@link Faker} shared by all randomizers of the same locale,
+     * using the random state of this randomizer. The shared faker must not be used outside of the given function.
+     *
+     * @param generator the function generating the value with the shared faker
+     * @return the generated value
+     */
+    protected T generate(final Function<Faker, T> generator) {
+        FakerBasedRandomizer<?> previous = CURRENT_RANDOMIZER.get();
+        CURRENT_RANDOMIZER.set(this);
+        try {
+            return generator.apply(getSharedFaker(locale));
+        } finally {
+            if (previous == null) {
+                CURRENT_RANDOMIZER.remove();
+            } else {
+                CURRENT_RANDOMIZER.set(previous);
+            }
+        }
+    }
+
+    private Faker createFaker(final Locale locale) {
+        FakeValuesService fakeValuesService = getSharedFaker(locale).fakeValuesService();
+        return new Faker(fakeValuesService, new FakerContext(locale, new RandomService(random)));
+    }
+
+    private static Faker getSharedFaker(final Locale locale) {
+        return FAKERS.computeIfAbsent(locale, key -> new Faker(new SharedFakeValuesService(), new FakerContext(key, new RandomService(new CurrentRandom()))));
+    }
+
+    private static FakerBasedRandomizer<?> getCurrentRandomizer() {
+        FakerBasedRandomizer<?> randomizer = CURRENT_RANDOMIZER.get();
+        if (randomizer == null) {
+            throw new IllegalStateException("The shared faker must be used within FakerBasedRandomizer#generate");
+        }
+        return randomizer;
+    }
+
+    /*
+     * Faker compiles regular expressions into automatons which seed their own random on first use.
+     * Values are generated from the random of the faker context instead, so that they only depend on
+     * the random state of the randomizer. Expressions that cannot be compiled are left to Faker.
+     */
+    private static class SharedFakeValuesService extends FakeValuesService {
+
+        private static final Map<String, Optional<RegularExpressionGenerator>> GENERATORS = new ConcurrentHashMap<>();
+
+        @Override
+        public String regexify(final String regex, final FakerContext context) {
+            Optional<RegularExpressionGenerator> generator = GENERATORS.computeIfAbsent(regex, SharedFakeValuesService::compile);
+            if (generator.isEmpty()) {
+                return super.regexify(regex, context);
+            }
+            RandomService randomService = context.getRandomService();
+            return generator.get().generate(randomService::nextInt);
+        }
+
+        private static Optional<RegularExpressionGenerator> compile(final String regex) {
+            try {
+                return Optional.of(RegularExpressionGenerator.compile(regex));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /*
+     * Random of the shared fakers, delegating to the random of the randomizer generating the current value.
+     */
+    private static class CurrentRandom extends Random {
+
+        private static Random current() {
+            return getCurrentRandomizer().random;
+        }
+
+        @Override
+        protected int next(final int bits) {
+            return current().nextInt() >>> (32 - bits);
+        }
+
+        @Override
+        public int nextInt() {
+            return current().nextInt();
+        }
+
+        @Override
+        public int nextInt(final int bound) {
+            return current().nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return current().nextLong();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return current().nextBoolean();
+        }
+
+        @Override
+        public float nextFloat() {
+            return current().nextFloat();
+        }
+
+        @Override
+        public double nextDouble() {
+            return current().nextDouble();
+        }
+
+        @Override
+        public double nextGaussian() {
+            return current().nextGaussian();
+        }
+
+        @Override
+        public void nextBytes(final byte[] bytes) {
+            current().nextBytes(bytes);
+        }
     }
 }
@@ -64,7 +64,7 @@ public class Ipv4AddressRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.internet().ipV4Address();
+        return generate(sharedFaker -> sharedFaker.internet().ipV4Address());
     }
 
 }
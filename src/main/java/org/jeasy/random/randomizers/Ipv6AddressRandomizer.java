@@ -64,7 +64,7 @@ public class Ipv6AddressRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.internet().ipV6Address();
+        return generate(sharedFaker -> sharedFaker.internet().ipV6Address());
     }
 
 }
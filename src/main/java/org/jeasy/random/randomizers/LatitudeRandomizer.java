@@ -61,6 +61,6 @@ public class LatitudeRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().latitude();
+        return generate(sharedFaker -> sharedFaker.address().latitude());
     }
 }
@@ -61,6 +61,6 @@ public class LongitudeRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.address().longitude();
+        return generate(sharedFaker -> sharedFaker.address().longitude());
     }
 }
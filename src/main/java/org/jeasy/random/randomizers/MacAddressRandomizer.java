@@ -64,7 +64,7 @@ public class MacAddressRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.internet().macAddress();
+        return generate(sharedFaker -> sharedFaker.internet().macAddress());
     }
 
 }
@@ -61,6 +61,6 @@ public class ParagraphRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.lorem().paragraph();
+        return generate(sharedFaker -> sharedFaker.lorem().paragraph());
     }
 }
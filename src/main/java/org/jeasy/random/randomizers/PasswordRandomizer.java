@@ -109,7 +109,7 @@ public class PasswordRandomizer extends FakerBasedRandomizer<String> {
 
 	@Override
 	public String getRandomValue() {
-		return faker.internet().password(min, max, includeUppercase, includeSpecial);
+		return generate(sharedFaker -> sharedFaker.internet().password(min, max, includeUppercase, includeSpecial));
 	}
 
 }
@@ -0,0 +1,502 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Generator of strings matching a regular expression.
+ *
+ * The expression is parsed once into a tree of character classes, sequences, alternations and
+ * bounded repetitions. Generating a value walks this tree, drawing every choice from the given
+ * source of random numbers, so values are deterministic for a given random state.
+ *
+ * Supported constructs are literals and escapes, character classes (including ranges, negations,
+ * unions and the {@code \d \w \s} classes and their negations), the dot, groups (capturing,
+ * non-capturing and named), alternations and greedy, reluctant or possessive quantifiers.
+ * Boundary matchers and inline flags are ignored. Negated classes and the dot generate printable
+ * ASCII characters, and unbounded quantifiers generate at most {@value #MAX_UNBOUNDED_REPETITIONS}
+ * more repetitions than their minimum. Other constructs, like back references and lookarounds,
+ * are rejected with an {@link IllegalArgumentException}.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class RegularExpressionGenerator {
+
+    static final int MAX_UNBOUNDED_REPETITIONS = 10;
+
+    private static final BitSet PRINTABLE_ASCII = range(' ', '~');
+    private static final BitSet DIGITS = range('0', '9');
+    private static final BitSet WORD_CHARACTERS = wordCharacters();
+    private static final BitSet WHITESPACES = whitespaces();
+
+    private final Node root;
+
+    private RegularExpressionGenerator(final Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile the given regular expression.
+     *
+     * @param regularExpression to compile
+     * @return the generator of strings matching the regular expression
+     * @throws IllegalArgumentException if the regular expression is invalid or not supported
+     */
+    static RegularExpressionGenerator compile(final String regularExpression) {
+        Parser parser = new Parser(regularExpression);
+        Node root = parser.parseAlternation();
+        if (parser.hasNext()) {
+            throw parser.error("Unmatched closing ')'");
+        }
+        return new RegularExpressionGenerator(root);
+    }
+
+    /**
+     * Generate a string matching the regular expression.
+     *
+     * @param nextInt function returning a random int between 0 (inclusive) and the given bound (exclusive)
+     * @return a string matching the regular expression
+     */
+    String generate(final IntUnaryOperator nextInt) {
+        StringBuilder builder = new StringBuilder();
+        root.generate(builder, nextInt);
+        return builder.toString();
+    }
+
+    private interface Node {
+        void generate(StringBuilder builder, IntUnaryOperator nextInt);
+    }
+
+    private static final Node EMPTY = (builder, nextInt) -> { };
+
+    private static Node literal(final char character) {
+        return (builder, nextInt) -> builder.append(character);
+    }
+
+    private static Node characterClass(final BitSet characters) {
+        if (characters.isEmpty()) {
+            throw new IllegalArgumentException("Character class matching no character");
+        }
+        char[] alphabet = new char[characters.cardinality()];
+        int index = 0;
+        for (int c = characters.nextSetBit(0); c >= 0; c = characters.nextSetBit(c + 1)) {
+            alphabet[index++] = (char) c;
+        }
+        if (alphabet.length == 1) {
+            return literal(alphabet[0]);
+        }
+        return (builder, nextInt) -> builder.append(alphabet[nextInt.applyAsInt(alphabet.length)]);
+    }
+
+    private static Node sequence(final List<Node> nodes) {
+        if (nodes.isEmpty()) {
+            return EMPTY;
+        }
+        if (nodes.size() == 1) {
+            return nodes.get(0);
+        }
+        Node[] sequence = nodes.toArray(new Node[0]);
+        return (builder, nextInt) -> {
+            for (Node node : sequence) {
+                node.generate(builder, nextInt);
+            }
+        };
+    }
+
+    private static Node alternation(final List<Node> nodes) {
+        if (nodes.size() == 1) {
+            return nodes.get(0);
+        }
+        Node[] alternatives = nodes.toArray(new Node[0]);
+        return (builder, nextInt) -> alternatives[nextInt.applyAsInt(alternatives.length)].generate(builder, nextInt);
+    }
+
+    private static Node repetition(final Node node, final int min, final int max) {
+        if (min == 1 && max == 1) {
+            return node;
+        }
+        return (builder, nextInt) -> {
+            int count = min == max ? min : min + nextInt.applyAsInt(max - min + 1);
+            for (int i = 0; i < count; i++) {
+                node.generate(builder, nextInt);
+            }
+        };
+    }
+
+    private static final class Parser {
+
+        private final String expression;
+        private int position;
+
+        private Parser(final String expression) {
+            this.expression = expression;
+        }
+
+        private boolean hasNext() {
+            return position < expression.length();
+        }
+
+        private char peek() {
+            return expression.charAt(position);
+        }
+
+        private boolean peekIs(final char character) {
+            return hasNext() && peek() == character;
+        }
+
+        private char next() {
+            if (!hasNext()) {
+                throw error("Unexpected end of expression");
+            }
+            return expression.charAt(position++);
+        }
+
+        private IllegalArgumentException error(final String message) {
+            return new IllegalArgumentException(String.format("%s at index %d of regular expression: %s", message, position, expression));
+        }
+
+        private Node parseAlternation() {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseSequence());
+            while (peekIs('|')) {
+                position++;
+                alternatives.add(parseSequence());
+            }
+            return alternation(alternatives);
+        }
+
+        private Node parseSequence() {
+            List<Node> nodes = new ArrayList<>();
+            while (hasNext() && peek() != '|' && peek() != ')') {
+                Node atom = parseAtom();
+                nodes.add(parseQuantifier(atom));
+            }
+            return sequence(nodes);
+        }
+
+        private Node parseAtom() {
+            char character = next();
+            switch (character) {
+                case '(':
+                    return parseGroup();
+                case '[':
+                    return characterClass(parseCharacterClass());
+                case '.':
+                    return characterClass(PRINTABLE_ASCII);
+                case '^':
+                case '$':
+                    return EMPTY;
+                case '\\':
+                    return parseEscape();
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw error("Dangling quantifier '" + character + "'");
+                default:
+                    return literal(character);
+            }
+        }
+
+        private Node parseGroup() {
+            if (peekIs('?')) {
+                position++;
+                char kind = next();
+                if (kind == '<' && hasNext() && Character.isLetter(peek())) {
+                    // named group
+                    while (next() != '>') {
+                        // skip the name
+                    }
+                } else if (kind != ':') {
+                    position--;
+                    if (!skipInlineFlags()) {
+                        throw error("Unsupported group construct '(?" + kind + "'");
+                    }
+                    if (peekIs(')')) {
+                        position++;
+                        return EMPTY;
+                    }
+                    position++; // ':'
+                }
+            }
+            Node group = parseAlternation();
+            if (!peekIs(')')) {
+                throw error("Unclosed group");
+            }
+            position++;
+            return group;
+        }
+
+        /*
+         * Inline flags like (?i) or (?i-s:X) do not change generated values.
+         */
+        private boolean skipInlineFlags() {
+            int start = position;
+            while (hasNext() && (Character.isLetter(peek()) || peek() == '-')) {
+                position++;
+            }
+            if (position > start && (peekIs(')') || peekIs(':'))) {
+                return true;
+            }
+            position = start;
+            return false;
+        }
+
+        private Node parseEscape() {
+            char character = next();
+            switch (character) {
+                case 'd':
+                case 'D':
+                case 'w':
+                case 'W':
+                case 's':
+                case 'S':
+                    return characterClass(predefinedClass(character));
+                case 'b':
+                case 'B':
+                case 'A':
+                case 'z':
+                case 'Z':
+                case 'G':
+                    return EMPTY;
+                case 'Q':
+                    return parseQuotation();
+                default:
+                    return literal(escapedCharacter(character));
+            }
+        }
+
+        private Node parseQuotation() {
+            int end = expression.indexOf("\\E", position);
+            String quoted = end < 0 ? expression.substring(position) : expression.substring(position, end);
+            position = end < 0 ? expression.length() : end + 2;
+            List<Node> nodes = new ArrayList<>();
+            for (char character : quoted.toCharArray()) {
+                nodes.add(literal(character));
+            }
+            return sequence(nodes);
+        }
+
+        private char escapedCharacter(final char character) {
+            switch (character) {
+                case 't':
+                    return '\t';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 'f':
+                    return '\f';
+                case 'a':
+                    return '\u0007';
+                case 'e':
+                    return '\u001B';
+                case '0':
+                    return (char) parseNumber(8, 3);
+                case 'x':
+                    return (char) parseNumber(16, 2);
+                case 'u':
+                    return (char) parseNumber(16, 4);
+                default:
+                    if (Character.isLetterOrDigit(character)) {
+                        throw error("Unsupported escape sequence '\\" + character + "'");
+                    }
+                    return character;
+            }
+        }
+
+        private int parseNumber(final int radix, final int maxDigits) {
+            int start = position;
+            while (hasNext() && position - start < maxDigits && Character.digit(peek(), radix) >= 0) {
+                position++;
+            }
+            if (position == start) {
+                throw error("Invalid escape sequence");
+            }
+            return Integer.parseInt(expression.substring(start, position), radix);
+        }
+
+        private BitSet parseCharacterClass() {
+            boolean negated = peekIs('^');
+            if (negated) {
+                position++;
+            }
+            BitSet characters = new BitSet();
+            boolean first = true;
+            while (first || !peekIs(']')) {
+                if (!hasNext()) {
+                    throw error("Unclosed character class");
+                }
+                first = false;
+                char character = next();
+                if (character == '[') {
+                    characters.or(parseCharacterClass());
+                    continue;
+                }
+                if (character == '&' && peekIs('&')) {
+                    throw error("Unsupported character class intersection");
+                }
+                if (character == '\\') {
+                    char escaped = next();
+                    if ("dDwWsS".indexOf(escaped) >= 0) {
+                        characters.or(predefinedClass(escaped));
+                        continue;
+                    }
+                    character = escapedCharacter(escaped);
+                }
+                if (peekIs('-') && position + 1 < expression.length() && expression.charAt(position + 1) != ']') {
+                    position++;
+                    char upper = next();
+                    if (upper == '\\') {
+                        upper = escapedCharacter(next());
+                    }
+                    if (upper < character) {
+                        throw error("Illegal character range");
+                    }
+                    characters.set(character, upper + 1);
+                } else {
+                    characters.set(character);
+                }
+            }
+            position++;
+            if (negated) {
+                BitSet complement = (BitSet) PRINTABLE_ASCII.clone();
+                complement.andNot(characters);
+                return complement;
+            }
+            return characters;
+        }
+
+        private Node parseQuantifier(final Node atom) {
+            if (!hasNext()) {
+                return atom;
+            }
+            int min;
+            int max;
+            switch (peek()) {
+                case '?':
+                    min = 0;
+                    max = 1;
+                    break;
+                case '*':
+                    min = 0;
+                    max = MAX_UNBOUNDED_REPETITIONS;
+                    break;
+                case '+':
+                    min = 1;
+                    max = 1 + MAX_UNBOUNDED_REPETITIONS;
+                    break;
+                case '{':
+                    return parseBoundedQuantifier(atom);
+                default:
+                    return atom;
+            }
+            position++;
+            skipQuantifierMode();
+            return repetition(atom, min, max);
+        }
+
+        private Node parseBoundedQuantifier(final Node atom) {
+            int end = expression.indexOf('}', position);
+            if (end < 0) {
+                throw error("Unclosed quantifier");
+            }
+            String[] bounds = expression.substring(position + 1, end).split(",", -1);
+            int min;
+            int max;
+            try {
+                min = Integer.parseInt(bounds[0].trim());
+                if (bounds.length == 1) {
+                    max = min;
+                } else if (bounds.length == 2) {
+                    max = bounds[1].trim().isEmpty() ? min + MAX_UNBOUNDED_REPETITIONS : Integer.parseInt(bounds[1].trim());
+                } else {
+                    throw error("Invalid quantifier");
+                }
+            } catch (NumberFormatException e) {
+                throw error("Invalid quantifier");
+            }
+            if (min < 0 || max < min) {
+                throw error("Invalid quantifier bounds");
+            }
+            position = end + 1;
+            skipQuantifierMode();
+            return repetition(atom, min, max);
+        }
+
+        private void skipQuantifierMode() {
+            // reluctant and possessive quantifiers match the same strings as greedy ones
+            if (peekIs('?') || peekIs('+')) {
+                position++;
+            }
+        }
+
+        private static BitSet predefinedClass(final char name) {
+            BitSet characters;
+            switch (Character.toLowerCase(name)) {
+                case 'd':
+                    characters = DIGITS;
+                    break;
+                case 'w':
+                    characters = WORD_CHARACTERS;
+                    break;
+                default:
+                    characters = WHITESPACES;
+                    break;
+            }
+            if (Character.isUpperCase(name)) {
+                BitSet complement = (BitSet) PRINTABLE_ASCII.clone();
+                complement.andNot(characters);
+                return complement;
+            }
+            return characters;
+        }
+    }
+
+    private static BitSet range(final char from, final char to) {
+        BitSet characters = new BitSet();
+        characters.set(from, to + 1);
+        return characters;
+    }
+
+    private static BitSet wordCharacters() {
+        BitSet characters = range('a', 'z');
+        characters.or(range('A', 'Z'));
+        characters.or(DIGITS);
+        characters.set('_');
+        return characters;
+    }
+
+    private static BitSet whitespaces() {
+        BitSet characters = new BitSet();
+        for (char character : " \t\n\u000B\f\r".toCharArray()) {
+            characters.set(character);
+        }
+        return characters;
+    }
+}
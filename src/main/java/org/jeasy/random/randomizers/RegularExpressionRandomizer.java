@@ -27,19 +27,24 @@ import org.jeasy.random.api.Randomizer;
 
 /**
  * A {@link Randomizer} that generates random strings matching a regular expression.
+ *
+ * The regular expression is compiled once, when the randomizer is created, and values are generated
+ * from the randomizer's own source of randomness, so they are reproducible for a given seed.
+ * Boundary matchers are ignored. See {@link RegularExpressionGenerator} for the supported constructs.
  */
 public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
 
-    private final String regularExpression;
+    private final RegularExpressionGenerator generator;
 
     /**
      * Create a new {@link RegularExpressionRandomizer}.
      *
      * @param regularExpression the regular expression which strings generated by this randomizer will match.
+     * @throws IllegalArgumentException if the regular expression is invalid or not supported
      */
     public RegularExpressionRandomizer(final String regularExpression) {
         super();
-        this.regularExpression = regularExpression;
+        this.generator = RegularExpressionGenerator.compile(regularExpression);
     }
 
     /**
@@ -47,27 +52,15 @@ public class RegularExpressionRandomizer extends FakerBasedRandomizer<String> {
      *
      * @param regularExpression the regular expression which strings generated by this randomizer will match.
      * @param seed              the initial seed
+     * @throws IllegalArgumentException if the regular expression is invalid or not supported
      */
     public RegularExpressionRandomizer(final String regularExpression, final long seed) {
         super(seed);
-        this.regularExpression = regularExpression;
+        this.generator = RegularExpressionGenerator.compile(regularExpression);
     }
 
     @Override
     public String getRandomValue() {
-        return faker.regexify(removeLeadingAndTailingBoundaryMatchers(regularExpression));
-    }
-
-    private static String removeLeadingAndTailingBoundaryMatchers(String regularExpression) {
-        String regularExpressionWithoutBoundaryMatchers = regularExpression;
-        int lastIndex = regularExpressionWithoutBoundaryMatchers.length() - 1;
-        if (regularExpressionWithoutBoundaryMatchers.indexOf('^') == 0) {
-            regularExpressionWithoutBoundaryMatchers = regularExpressionWithoutBoundaryMatchers.substring(1, lastIndex + 1);
-            lastIndex = regularExpressionWithoutBoundaryMatchers.length() - 1;
-        }
-        if (regularExpressionWithoutBoundaryMatchers.lastIndexOf('$') == lastIndex) {
-            regularExpressionWithoutBoundaryMatchers = regularExpressionWithoutBoundaryMatchers.substring(0, lastIndex);
-        }
-        return regularExpressionWithoutBoundaryMatchers;
+        return generator.generate(random::nextInt);
     }
 }
@@ -61,6 +61,6 @@ public class SentenceRandomizer extends FakerBasedRandomizer<String> {
 
     @Override
     public String getRandomValue() {
-        return faker.lorem().sentence();
+        return generate(sharedFaker -> sharedFaker.lorem().sentence());
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.misc;
 
+import org.jeasy.random.api.PrimitiveBooleanRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -30,7 +31,7 @@ import org.jeasy.random.randomizers.AbstractRandomizer;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class BooleanRandomizer extends AbstractRandomizer<Boolean> {
+public class BooleanRandomizer extends AbstractRandomizer<Boolean> implements PrimitiveBooleanRandomizer {
 
     /**
      * Create a new {@link BooleanRandomizer}.
@@ -48,7 +49,7 @@ public class BooleanRandomizer extends AbstractRandomizer<Boolean> {
     }
 
     @Override
-    public Boolean getRandomValue() {
+    public boolean getRandomBoolean() {
         return random.nextBoolean();
     }
 }
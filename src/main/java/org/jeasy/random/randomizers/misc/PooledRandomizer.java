@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.misc;
+
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.AbstractRandomizer;
+import org.jeasy.random.util.ScopedRandom;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
+
+/**
+ * A {@link Randomizer} that pre-generates a fixed number of values with a delegate randomizer
+ * and then returns values sampled from this pool.
+ *
+ * This is useful for expensive randomizers like {@link org.jeasy.random.randomizers.FakerBasedRandomizer}s,
+ * at the cost of generating at most {@code poolSize} distinct values. The pool is generated with the
+ * delegate's own random state, so values are deterministic when both the delegate and this randomizer are seeded.
+ *
+ * @param <T> the type generated by this randomizer
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class PooledRandomizer<T> extends AbstractRandomizer<T> {
+
+    /**
+     * Maximum number of values in a pool.
+     */
+    public static final int MAX_POOL_SIZE = 1 << 20;
+
+    private final CompletableFuture<Object[]> pool;
+
+    /**
+     * Create a new {@link PooledRandomizer}. The pool is generated immediately.
+     *
+     * @param delegate the randomizer used to generate the pool
+     * @param poolSize the number of values to generate (between 1 and {@link #MAX_POOL_SIZE})
+     */
+    public PooledRandomizer(final Randomizer<T> delegate, final int poolSize) {
+        super();
+        checkPoolSize(poolSize);
+        this.pool = CompletableFuture.completedFuture(generatePool(delegate, poolSize));
+    }
+
+    /**
+     * Create a new {@link PooledRandomizer}. The pool is generated immediately.
+     *
+     * @param delegate the randomizer used to generate the pool
+     * @param poolSize the number of values to generate (between 1 and {@link #MAX_POOL_SIZE})
+     * @param seed     initial seed
+     */
+    public PooledRandomizer(final Randomizer<T> delegate, final int poolSize, final long seed) {
+        super(seed);
+        checkPoolSize(poolSize);
+        this.pool = CompletableFuture.completedFuture(generatePool(delegate, poolSize));
+    }
+
+    /**
+     * Create a new {@link PooledRandomizer}. The pool is generated with the given executor,
+     * and the first call to {@link #getRandomValue()} waits until it is complete.
+     *
+     * @param delegate the randomizer used to generate the pool
+     * @param poolSize the number of values to generate (between 1 and {@link #MAX_POOL_SIZE})
+     * @param seed     initial seed
+     * @param executor the executor used to generate the pool
+     */
+    public PooledRandomizer(final Randomizer<T> delegate, final int poolSize, final long seed, final Executor executor) {
+        super(seed);
+        checkPoolSize(poolSize);
+        this.pool = CompletableFuture.supplyAsync(() -> generatePool(delegate, poolSize), executor);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getRandomValue() {
+        Object[] values = pool.join();
+        return (T) values[random.nextInt(values.length)];
+    }
+
+    private static void checkPoolSize(final int poolSize) {
+        if (poolSize < 1 || poolSize > MAX_POOL_SIZE) {
+            throw new IllegalArgumentException("poolSize should be between 1 and " + MAX_POOL_SIZE);
+        }
+    }
+
+    private static Object[] generatePool(final Randomizer<?> delegate, final int poolSize) {
+        // the pool must not depend on the random generator bound to the calling thread, if any
+        RandomGenerator previous = ScopedRandom.bind(null);
+        try {
+            Object[] values = new Object[poolSize];
+            for (int i = 0; i < poolSize; i++) {
+                values[i] = delegate.getRandomValue();
+            }
+            return values;
+        } finally {
+            ScopedRandom.restore(previous);
+        }
+    }
+
+}
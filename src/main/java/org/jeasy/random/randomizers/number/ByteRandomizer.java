@@ -23,22 +23,20 @@
  */
 package org.jeasy.random.randomizers.number;
 
-import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.PrimitiveByteRandomizer;
+import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
  * Generate a random {@link Byte}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class ByteRandomizer implements Randomizer<Byte> {
-
-    private final IntegerRandomizer delegate;
+public class ByteRandomizer extends AbstractRandomizer<Byte> implements PrimitiveByteRandomizer {
 
     /**
      * Create a new {@link ByteRandomizer}.
      */
     public ByteRandomizer() {
-        delegate = new IntegerRandomizer();
     }
 
     /**
@@ -47,11 +45,27 @@ public class ByteRandomizer implements Randomizer<Byte> {
      * @param seed initial seed
      */
     public ByteRandomizer(final long seed) {
-        delegate = new IntegerRandomizer(seed);
+        super(seed);
+    }
+
+    @Override
+    public byte getRandomByte() {
+        return (byte) random.nextInt();
     }
 
+    /**
+     * Fill the given array with random values. Arrays of bytes are filled with
+     * {@link java.util.Random#nextBytes(byte[])}, which draws four bytes at a time,
+     * so their content differs from the one of successive calls to {@link #getRandomValue()}.
+     *
+     * @param array the array to fill
+     */
     @Override
-    public Byte getRandomValue() {
-        return delegate.getRandomValue().byteValue();
+    public void fill(final Object array) {
+        if (array instanceof byte[]) {
+            random.nextBytes((byte[]) array);
+        } else {
+            PrimitiveByteRandomizer.super.fill(array);
+        }
     }
 }
@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.PrimitiveDoubleRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -30,7 +31,7 @@ import org.jeasy.random.randomizers.AbstractRandomizer;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class DoubleRandomizer extends AbstractRandomizer<Double> {
+public class DoubleRandomizer extends AbstractRandomizer<Double> implements PrimitiveDoubleRandomizer {
 
     /**
      * Create a new {@link DoubleRandomizer}.
@@ -48,7 +49,7 @@ public class DoubleRandomizer extends AbstractRandomizer<Double> {
     }
 
     @Override
-    public Double getRandomValue() {
+    public double getRandomDouble() {
         return random.nextDouble();
     }
 }
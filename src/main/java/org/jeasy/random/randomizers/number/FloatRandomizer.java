@@ -23,6 +23,7 @@
  */
 package org.jeasy.random.randomizers.number;
 
+import org.jeasy.random.api.PrimitiveFloatRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 /**
@@ -30,7 +31,7 @@ import org.jeasy.random.randomizers.AbstractRandomizer;
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class FloatRandomizer extends AbstractRandomizer<Float> {
+public class FloatRandomizer extends AbstractRandomizer<Float> implements PrimitiveFloatRandomizer {
 
     /**
      * Create a new {@link FloatRandomizer}.
@@ -48,7 +49,7 @@ public class FloatRandomizer extends AbstractRandomizer<Float> {
     }
 
     @Override
-    public Float getRandomValue() {
+    public float getRandomFloat() {
         return random.nextFloat();
     }
 }
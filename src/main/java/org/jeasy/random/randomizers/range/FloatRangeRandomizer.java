@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveFloatRandomizer;
+
 /**
  * Generate a random {@link Float} in the given range.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class FloatRangeRandomizer extends AbstractRangeRandomizer<Float> {
+public class FloatRangeRandomizer extends AbstractRangeRandomizer<Float> implements PrimitiveFloatRandomizer {
 
     /**
      * Create a new {@link FloatRangeRandomizer}.
@@ -69,7 +71,7 @@ public class FloatRangeRandomizer extends AbstractRangeRandomizer<Float> {
     }
 
     @Override
-    public Float getRandomValue() {
+    public float getRandomFloat() {
         return (float) nextDouble(min, max);
     }
 }
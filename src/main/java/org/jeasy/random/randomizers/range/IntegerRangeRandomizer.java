@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveIntRandomizer;
+
 /**
  * Generate a random {@link Integer} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> {
+public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> implements PrimitiveIntRandomizer {
 
     /**
      * Create a new {@link IntegerRangeRandomizer}.
@@ -59,7 +61,7 @@ public class IntegerRangeRandomizer extends AbstractRangeRandomizer<Integer> {
     }
 
     @Override
-    public Integer getRandomValue() {
+    public int getRandomInt() {
         return (int) nextDouble(min, max);
     }
 
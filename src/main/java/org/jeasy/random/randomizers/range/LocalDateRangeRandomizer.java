@@ -23,15 +23,19 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.BatchRandomizer;
+
 import java.time.LocalDate;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Generate a random {@link LocalDate} in the given range.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LocalDateRangeRandomizer extends AbstractRangeRandomizer<LocalDate> {
+public class LocalDateRangeRandomizer extends AbstractRangeRandomizer<LocalDate> implements BatchRandomizer<LocalDate> {
 
     /**
      * Create a new {@link LocalDateRangeRandomizer}.
@@ -73,8 +77,24 @@ public class LocalDateRangeRandomizer extends AbstractRangeRandomizer<LocalDate>
 
     @Override
     public LocalDate getRandomValue() {
+        return nextLocalDate(min.getLong(ChronoField.EPOCH_DAY), max.getLong(ChronoField.EPOCH_DAY));
+    }
+
+    @Override
+    public List<LocalDate> getRandomValues(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of values to generate must be >= 0");
+        }
         long minEpochDay = min.getLong(ChronoField.EPOCH_DAY);
         long maxEpochDay = max.getLong(ChronoField.EPOCH_DAY);
+        List<LocalDate> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(nextLocalDate(minEpochDay, maxEpochDay));
+        }
+        return values;
+    }
+
+    private LocalDate nextLocalDate(final long minEpochDay, final long maxEpochDay) {
         long randomEpochDay = (long) nextDouble(minEpochDay, maxEpochDay);
         return LocalDate.ofEpochDay(randomEpochDay);
     }
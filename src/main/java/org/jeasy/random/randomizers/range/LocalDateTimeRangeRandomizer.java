@@ -23,16 +23,20 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.BatchRandomizer;
+
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Generate a random {@link LocalDateTime} in the given range.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class LocalDateTimeRangeRandomizer extends AbstractRangeRandomizer<LocalDateTime> {
+public class LocalDateTimeRangeRandomizer extends AbstractRangeRandomizer<LocalDateTime> implements BatchRandomizer<LocalDateTime> {
 
     /**
      * Create a new {@link LocalDateTimeRangeRandomizer}.
@@ -74,12 +78,27 @@ public class LocalDateTimeRangeRandomizer extends AbstractRangeRandomizer<LocalD
 
     @Override
     public LocalDateTime getRandomValue() {
+        return nextLocalDateTime(min.toEpochSecond(ZoneOffset.UTC), max.toEpochSecond(ZoneOffset.UTC), min.getNano(), max.getNano());
+    }
 
+    @Override
+    public List<LocalDateTime> getRandomValues(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of values to generate must be >= 0");
+        }
         long minSeconds = min.toEpochSecond(ZoneOffset.UTC);
         long maxSeconds = max.toEpochSecond(ZoneOffset.UTC);
-        long seconds = (long) nextDouble(minSeconds, maxSeconds);
         int minNanoSeconds = min.getNano();
         int maxNanoSeconds = max.getNano();
+        List<LocalDateTime> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(nextLocalDateTime(minSeconds, maxSeconds, minNanoSeconds, maxNanoSeconds));
+        }
+        return values;
+    }
+
+    private LocalDateTime nextLocalDateTime(final long minSeconds, final long maxSeconds, final int minNanoSeconds, final int maxNanoSeconds) {
+        long seconds = (long) nextDouble(minSeconds, maxSeconds);
         long nanoSeconds = (long) nextDouble(minNanoSeconds, maxNanoSeconds);
         Instant instant = Instant.ofEpochSecond(seconds, nanoSeconds);
 
@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveLongRandomizer;
+
 /**
  * Generate a random {@link Long} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> {
+public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> implements PrimitiveLongRandomizer {
 
     /**
      * Create a new {@link LongRangeRandomizer}.
@@ -59,7 +61,7 @@ public class LongRangeRandomizer extends AbstractRangeRandomizer<Long> {
     }
 
     @Override
-    public Long getRandomValue() {
+    public long getRandomLong() {
         return (long) nextDouble(min, max);
     }
 
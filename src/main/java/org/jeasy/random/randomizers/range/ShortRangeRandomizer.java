@@ -23,12 +23,14 @@
  */
 package org.jeasy.random.randomizers.range;
 
+import org.jeasy.random.api.PrimitiveShortRandomizer;
+
 /**
  * Generate a random {@link Short} in the given range.
  *
  * @author Rémi Alvergnat (toilal.dev@gmail.com)
  */
-public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> {
+public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> implements PrimitiveShortRandomizer {
 
     /**
      * Create a new {@link ShortRangeRandomizer}.
@@ -59,7 +61,7 @@ public class ShortRangeRandomizer extends AbstractRangeRandomizer<Short> {
     }
 
     @Override
-    public Short getRandomValue() {
+    public short getRandomShort() {
         return (short) nextDouble(min, max);
     }
 
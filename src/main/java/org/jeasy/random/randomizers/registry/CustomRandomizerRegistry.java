@@ -79,4 +79,13 @@ public class CustomRandomizerRegistry implements RandomizerRegistry {
         customFieldRandomizersRegistry.put(predicate, randomizer);
     }
 
+    /**
+     * Return true if a randomizer has been registered for fields matching a predicate.
+     *
+     * @return true if a randomizer has been registered for fields, false if all randomizers are registered by type
+     */
+    public boolean hasFieldRandomizers() {
+        return !customFieldRandomizersRegistry.isEmpty();
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.registry;
+
+import org.jeasy.random.api.Randomizer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Randomizers of built-in registries, created on the first request for their type.
+ *
+ * Each randomizer has its own random state seeded with the randomization seed, so creating it
+ * lazily does not change the values it generates. Factories are registered when the registry is
+ * initialized, and randomizers can then be requested concurrently: if several threads request the
+ * same type at the same time, only one of the created randomizers is ever used.
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class LazyRandomizers {
+
+    private final Map<Class<?>, Supplier<? extends Randomizer<?>>> factories = new HashMap<>();
+
+    private final Map<Class<?>, Randomizer<?>> randomizers = new ConcurrentHashMap<>();
+
+    /**
+     * Register the factory of the randomizer of the given type.
+     *
+     * @param type the type generated by the randomizer
+     * @param factory the factory of the randomizer
+     */
+    void register(final Class<?> type, final Supplier<? extends Randomizer<?>> factory) {
+        factories.put(type, factory);
+    }
+
+    /**
+     * Use the same randomizer (and random state) for the given type as for the target type.
+     *
+     * @param type the type to register
+     * @param targetType the type of which the randomizer should be used
+     */
+    void alias(final Class<?> type, final Class<?> targetType) {
+        factories.put(type, () -> get(targetType));
+    }
+
+    /**
+     * Get the randomizer of the given type, creating it if needed.
+     *
+     * @param type the type of the randomizer
+     * @return the randomizer of the given type, or null if no factory is registered for this type
+     */
+    Randomizer<?> get(final Class<?> type) {
+        Randomizer<?> randomizer = randomizers.get(type);
+        if (randomizer != null) {
+            return randomizer;
+        }
+        Supplier<? extends Randomizer<?>> factory = factories.get(type);
+        if (factory == null) {
+            return null;
+        }
+        // factories may request other types (see alias), so they are not called within computeIfAbsent
+        randomizer = factory.get();
+        Randomizer<?> previous = randomizers.putIfAbsent(type, randomizer);
+        return previous != null ? previous : randomizer;
+    }
+}
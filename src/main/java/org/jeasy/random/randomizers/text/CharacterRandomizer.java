@@ -23,32 +23,32 @@
  */
 package org.jeasy.random.randomizers.text;
 
+import org.jeasy.random.api.PrimitiveCharRandomizer;
 import org.jeasy.random.randomizers.AbstractRandomizer;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 
-import static org.jeasy.random.util.CharacterUtils.collectPrintableCharactersOf;
-import static org.jeasy.random.util.CharacterUtils.filterLetters;
+import static org.jeasy.random.util.CharacterUtils.getPrintableLettersOf;
 
 /**
  * Generate a random {@link Character}.
  *
  * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
  */
-public class CharacterRandomizer extends AbstractRandomizer<Character> {
+public class CharacterRandomizer extends AbstractRandomizer<Character> implements PrimitiveCharRandomizer {
 
     private Charset charset = StandardCharsets.US_ASCII;
 
-    private List<Character> characters = collectPrintableCharactersOf(charset);
+    private final String characters = getPrintableLettersOf(charset);
+
+    private final boolean latin1 = isLatin1(characters);
 
     /**
      * Create a new {@link CharacterRandomizer}.
      */
     public CharacterRandomizer() {
         super();
-        characters = filterLetters(characters);
     }
 
     /**
@@ -59,7 +59,6 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
     public CharacterRandomizer(final Charset charset) {
         super();
         this.charset = charset;
-        characters = filterLetters(characters);
     }
 
     /**
@@ -69,7 +68,6 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
      */
     public CharacterRandomizer(final long seed) {
         super(seed);
-        characters = filterLetters(characters);
     }
 
     /**
@@ -81,11 +79,43 @@ public class CharacterRandomizer extends AbstractRandomizer<Character> {
     public CharacterRandomizer(final Charset charset, final long seed) {
         super(seed);
         this.charset = charset;
-        characters = filterLetters(characters);
     }
 
     @Override
-    public Character getRandomValue() {
-        return characters.get(random.nextInt(characters.size()));
+    public char getRandomChar() {
+        return characters.charAt(random.nextInt(characters.length()));
+    }
+
+    /**
+     * Whether all characters generated by this randomizer can be encoded in a single
+     * {@code ISO-8859-1} byte.
+     *
+     * @return true if generated characters are {@code ISO-8859-1} characters
+     */
+    boolean isLatin1() {
+        return latin1;
+    }
+
+    /**
+     * Fill the first {@code length} bytes of the given array with random {@code ISO-8859-1} characters.
+     * The same characters are generated as with {@link #getRandomChar()}.
+     * This randomizer must be {@link #isLatin1() latin1}.
+     *
+     * @param bytes to fill
+     * @param length number of characters to generate
+     */
+    void fill(final byte[] bytes, final int length) {
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) getRandomChar();
+        }
+    }
+
+    private static boolean isLatin1(final String characters) {
+        for (int i = 0; i < characters.length(); i++) {
+            if (characters.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
     }
 }
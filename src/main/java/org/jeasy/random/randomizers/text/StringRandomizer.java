@@ -26,6 +26,7 @@ package org.jeasy.random.randomizers.text;
 import org.jeasy.random.EasyRandomParameters;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Generate a random {@link String}.
@@ -34,6 +35,16 @@ import java.nio.charset.Charset;
  */
 public class StringRandomizer extends CharSequenceRandomizer<String> {
 
+    /*
+     * Per thread buffer in which latin1 strings are generated before being copied
+     * once into the string. Randomizers may be used by several threads concurrently.
+     * Longer strings get a fresh array so that a single long string does not keep
+     * a large buffer alive for the lifetime of the thread.
+     */
+    static final int MAX_LATIN1_BUFFER_LENGTH = 1024;
+
+    private static final ThreadLocal<byte[]> LATIN1_BUFFER = ThreadLocal.withInitial(() -> new byte[EasyRandomParameters.DEFAULT_STRING_LENGTH_RANGE.getMax()]);
+
     private final CharacterRandomizer characterRandomizer;
 
     private int maxLength = EasyRandomParameters.DEFAULT_STRING_LENGTH_RANGE.getMax();
@@ -148,10 +159,25 @@ public class StringRandomizer extends CharSequenceRandomizer<String> {
     @Override
     public String getRandomValue() {
         int length = (int) nextDouble(minLength, maxLength);
-        char[] chars = new char[length];
-        for (int i = 0; i < length; i++) {
-            chars[i] = characterRandomizer.getRandomValue();
+        if (characterRandomizer.isLatin1()) {
+            byte[] bytes = getLatin1Buffer(length);
+            characterRandomizer.fill(bytes, length);
+            return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
         }
+        char[] chars = new char[length];
+        characterRandomizer.fill(chars);
         return new String(chars);
     }
+
+    static byte[] getLatin1Buffer(final int length) {
+        if (length > MAX_LATIN1_BUFFER_LENGTH) {
+            return new byte[length];
+        }
+        byte[] buffer = LATIN1_BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new byte[length];
+            LATIN1_BUFFER.set(buffer);
+        }
+        return buffer;
+    }
 }
@@ -26,6 +26,8 @@ package org.jeasy.random.util;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.stream.Collectors.toList;
 
@@ -38,9 +40,41 @@ import static java.util.stream.Collectors.toList;
  */
 public final class CharacterUtils {
 
+    private static final Map<Charset, String> PRINTABLE_CHARACTERS = new ConcurrentHashMap<>();
+
+    private static final Map<Charset, String> PRINTABLE_LETTERS = new ConcurrentHashMap<>();
+
     private CharacterUtils() {
     }
 
+    /**
+     * Returns all printable characters of the given charset.
+     *
+     * The alphabet is computed once per charset and shared by all callers
+     * as an immutable string.
+     *
+     * @param charset
+     *            Charset to use
+     * @return printable characters
+     */
+    public static String getPrintableCharactersOf(Charset charset) {
+        return PRINTABLE_CHARACTERS.computeIfAbsent(charset, CharacterUtils::toPrintableCharacters);
+    }
+
+    /**
+     * Returns all printable letters of the given charset.
+     *
+     * The alphabet is computed once per charset and shared by all callers
+     * as an immutable string.
+     *
+     * @param charset
+     *            Charset to use
+     * @return printable letters
+     */
+    public static String getPrintableLettersOf(Charset charset) {
+        return PRINTABLE_LETTERS.computeIfAbsent(charset, CharacterUtils::toPrintableLetters);
+    }
+
     /**
      * Returns a list of all printable charaters of the given charset.
      * 
@@ -73,6 +107,27 @@ public final class CharacterUtils {
         return characters.stream().filter(Character::isLetter).collect(toList());
     }
 
+    private static String toPrintableCharacters(Charset charset) {
+        List<Character> characters = collectPrintableCharactersOf(charset);
+        StringBuilder printableCharacters = new StringBuilder(characters.size());
+        for (Character character : characters) {
+            printableCharacters.append(character.charValue());
+        }
+        return printableCharacters.toString();
+    }
+
+    private static String toPrintableLetters(Charset charset) {
+        String characters = getPrintableCharactersOf(charset);
+        StringBuilder letters = new StringBuilder(characters.length());
+        for (int i = 0; i < characters.length(); i++) {
+            char character = characters.charAt(i);
+            if (Character.isLetter(character)) {
+                letters.append(character);
+            }
+        }
+        return letters.toString();
+    }
+
     private static boolean isPrintable(char character) {
         Character.UnicodeBlock block = Character.UnicodeBlock.of(character);
         return (!Character.isISOControl(character)) && block != null && block != Character.UnicodeBlock.SPECIALS;
@@ -23,39 +23,240 @@
  */
 package org.jeasy.random.util;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ClassInfoList;
+import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import org.jeasy.random.ObjectCreationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Facade for {@link io.github.classgraph.ClassGraph}. It is a separate class from {@link ReflectionUtils},
  * so that the classpath scanning - which can take a few seconds - is only done when necessary.
  *
+ * The classpath is scanned once per scope (packages and whether system modules are included), in a background
+ * thread started by the first request for this scope. The scan result is reduced to a map of type names to the
+ * names of their public concrete subtypes and released right after, and subtypes are loaded on demand.
+ * When an index directory is given, this map is persisted in a {@link SubTypeIndexFile} and reused by
+ * subsequent JVMs until the classpath changes. When the classpath contains indexes generated at compile time
+ * by the {@link org.jeasy.random.processor.SubTypeIndexProcessor} for all the scanned packages, these indexes are
+ * used and the classpath is not scanned at all, unless system modules should be scanned. In a native image, where
+ * the classpath cannot be scanned, compiled indexes are used whatever the packages they cover.
+ *
  * @author Pascal Schumacher (https://github.com/PascalSchumacher)
  */
 abstract class ClassGraphFacade {
 
-    private static final ConcurrentHashMap<Class<?>, List<Class<?>>> typeToConcreteSubTypes = new ConcurrentHashMap<>();
-    private static final ScanResult scanResult = new ClassGraph().enableSystemJarsAndModules().enableClassInfo().scan();
+    private static final ScanScope FULL_SCOPE = new ScanScope(Collections.emptySet(), true);
+
+    private static final Executor SCANNER = command -> {
+        Thread scanner = new Thread(command, "easy-random-classpath-scanner");
+        scanner.setDaemon(true);
+        scanner.start();
+    };
+
+    // set by GraalVM when running (or building) a native image, which cannot be scanned at runtime
+    private static final boolean NATIVE_IMAGE = System.getProperty("org.graalvm.nativeimage.imagecode") != null;
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassGraphFacade.class);
+
+    private static final ConcurrentHashMap<ScanScope, SubTypeIndex> subTypeIndexes = new ConcurrentHashMap<>();
 
     /**
-     * Searches the classpath for all public concrete subtypes of the given interface or abstract class.
+     * Searches the whole classpath (including system modules) for all public concrete subtypes of the given
+     * interface or abstract class.
      *
      * @param type to search concrete subtypes of
      * @return a list of all concrete subtypes found
      */
     public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type) {
-        return typeToConcreteSubTypes.computeIfAbsent(type, ClassGraphFacade::searchForPublicConcreteSubTypesOf);
+        return getSubTypeIndex(FULL_SCOPE, null).getPublicConcreteSubTypesOf(type);
+    }
+
+    /**
+     * Searches the given packages of the classpath for all public concrete subtypes of the given
+     * interface or abstract class.
+     *
+     * @param type to search concrete subtypes of
+     * @param packages to scan, or an empty set to scan all packages
+     * @param scanSystemModules whether to scan system modules and jars
+     * @param indexDirectory directory of persisted subtype indexes, or null to always scan the classpath
+     * @return a list of all concrete subtypes found
+     */
+    static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type, final Set<String> packages,
+                                                          final boolean scanSystemModules, final Path indexDirectory) {
+        return getSubTypeIndex(new ScanScope(packages, scanSystemModules), indexDirectory).getPublicConcreteSubTypesOf(type);
+    }
+
+    /**
+     * Start scanning the given packages of the classpath in the background, if not already done.
+     *
+     * @param packages to scan, or an empty set to scan all packages
+     * @param scanSystemModules whether to scan system modules and jars
+     * @param indexDirectory directory of persisted subtype indexes, or null to always scan the classpath
+     */
+    static void scan(final Set<String> packages, final boolean scanSystemModules, final Path indexDirectory) {
+        getSubTypeIndex(new ScanScope(packages, scanSystemModules), indexDirectory);
+    }
+
+    private static SubTypeIndex getSubTypeIndex(final ScanScope scope, final Path indexDirectory) {
+        return subTypeIndexes.computeIfAbsent(scope, key -> new SubTypeIndex(key, indexDirectory));
     }
 
-    private static <T> List<Class<?>> searchForPublicConcreteSubTypesOf(final Class<T> type) {
-        String typeName = type.getName();
-        ClassInfoList subTypes = type.isInterface() ? scanResult.getClassesImplementing(typeName) : scanResult.getSubclasses(typeName);
-        List<Class<?>> loadedSubTypes = subTypes.filter(subType -> subType.isPublic() && !subType.isAbstract()).loadClasses(true);
-        return Collections.unmodifiableList(loadedSubTypes);
+    private static Map<String, List<String>> loadPublicConcreteSubTypes(final ScanScope scope, final Path indexDirectory) {
+        // compiled indexes do not contain the subtypes defined by system modules
+        if (!scope.systemModules()) {
+            Map<String, List<String>> compiledSubTypeNames = readCompiledIndexes(scope);
+            if (compiledSubTypeNames != null) {
+                return compiledSubTypeNames;
+            }
+        }
+        if (NATIVE_IMAGE) {
+            logger.warn("The classpath cannot be scanned in a native image, concrete subtypes should be indexed at compile time "
+                    + "with the SubTypeIndexProcessor");
+            return Collections.emptyMap();
+        }
+        if (indexDirectory == null) {
+            return scanPublicConcreteSubTypes(scope);
+        }
+        Path indexFile = SubTypeIndexFile.of(indexDirectory, scope.packages(), scope.systemModules());
+        String fingerprint;
+        try {
+            fingerprint = SubTypeIndexFile.fingerprint(newClassGraph(scope).getClasspathFiles(), scope.systemModules());
+        } catch (UncheckedIOException e) {
+            logger.warn("Unable to compute the classpath fingerprint, the classpath will be scanned", e);
+            return scanPublicConcreteSubTypes(scope);
+        }
+        try {
+            Map<String, List<String>> subTypeNames = SubTypeIndexFile.read(indexFile, fingerprint);
+            if (subTypeNames != null) {
+                return subTypeNames;
+            }
+        } catch (IOException e) {
+            logger.warn("Unable to read subtype index {}, the classpath will be scanned", indexFile, e);
+        }
+        Map<String, List<String>> subTypeNames = scanPublicConcreteSubTypes(scope);
+        try {
+            SubTypeIndexFile.write(indexFile, fingerprint, subTypeNames);
+        } catch (IOException e) {
+            logger.warn("Unable to write subtype index {}", indexFile, e);
+        }
+        return subTypeNames;
+    }
+
+    private static Map<String, List<String>> readCompiledIndexes(final ScanScope scope) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ClassGraphFacade.class.getClassLoader();
+        }
+        try {
+            return SubTypeIndexFile.readCompiledIndexes(classLoader, scope.packages(), NATIVE_IMAGE);
+        } catch (IOException e) {
+            logger.warn("Unable to read the subtype indexes generated at compile time, the classpath will be scanned", e);
+            return null;
+        }
+    }
+
+    private static ClassGraph newClassGraph(final ScanScope scope) {
+        ClassGraph classGraph = new ClassGraph().enableClassInfo();
+        if (scope.systemModules()) {
+            classGraph.enableSystemJarsAndModules();
+        }
+        if (!scope.packages().isEmpty()) {
+            classGraph.acceptPackages(scope.packages().toArray(new String[0]));
+        }
+        return classGraph;
+    }
+
+    private static Map<String, List<String>> scanPublicConcreteSubTypes(final ScanScope scope) {
+        Map<String, List<String>> subTypeNames = new HashMap<>();
+        try (ScanResult scanResult = newClassGraph(scope).scan()) {
+            for (ClassInfo classInfo : scanResult.getAllStandardClasses()) {
+                if (classInfo.isPublic() && !classInfo.isAbstract()) {
+                    for (ClassInfo superType : classInfo.getSuperclasses()) {
+                        subTypeNames.computeIfAbsent(superType.getName(), name -> new ArrayList<>()).add(classInfo.getName());
+                    }
+                    for (ClassInfo superType : classInfo.getInterfaces()) {
+                        subTypeNames.computeIfAbsent(superType.getName(), name -> new ArrayList<>()).add(classInfo.getName());
+                    }
+                }
+            }
+        }
+        // sort subtypes by name, so that the choice of a random subtype is reproducible
+        subTypeNames.values().forEach(names -> names.sort(Comparator.naturalOrder()));
+        return subTypeNames;
+    }
+
+    private static Class<?> loadClass(final String name, final Class<?> type) {
+        ClassLoader[] classLoaders = {
+                Thread.currentThread().getContextClassLoader(),
+                type.getClassLoader(),
+                ClassGraphFacade.class.getClassLoader()
+        };
+        for (ClassLoader classLoader : classLoaders) {
+            if (classLoader != null) {
+                try {
+                    return Class.forName(name, false, classLoader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // try next class loader
+                }
+            }
+        }
+        return null;
+    }
+
+    private record ScanScope(Set<String> packages, boolean systemModules) {
+
+        private ScanScope {
+            packages = Set.copyOf(packages);
+        }
+    }
+
+    private static final class SubTypeIndex {
+
+        private final CompletableFuture<Map<String, List<String>>> subTypeNames;
+
+        private final ConcurrentHashMap<Class<?>, List<Class<?>>> subTypes = new ConcurrentHashMap<>();
+
+        private SubTypeIndex(final ScanScope scope, final Path indexDirectory) {
+            subTypeNames = CompletableFuture.supplyAsync(() -> loadPublicConcreteSubTypes(scope, indexDirectory), SCANNER);
+        }
+
+        private List<Class<?>> getPublicConcreteSubTypesOf(final Class<?> type) {
+            return subTypes.computeIfAbsent(type, this::loadPublicConcreteSubTypesOf);
+        }
+
+        private List<Class<?>> loadPublicConcreteSubTypesOf(final Class<?> type) {
+            Map<String, List<String>> names;
+            try {
+                names = subTypeNames.join();
+            } catch (CompletionException e) {
+                throw new ObjectCreationException("Unable to scan the classpath for concrete subtypes of type " + type, e.getCause());
+            }
+            List<Class<?>> loadedSubTypes = new ArrayList<>();
+            for (String name : names.getOrDefault(type.getName(), Collections.emptyList())) {
+                Class<?> subType = loadClass(name, type);
+                // compiled indexes may be stale, for example when a class no longer extends the type
+                if (subType != null && type.isAssignableFrom(subType)) {
+                    loadedSubTypes.add(subType);
+                }
+            }
+            return Collections.unmodifiableList(loadedSubTypes);
+        }
     }
 }
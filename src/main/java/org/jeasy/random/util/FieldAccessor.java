@@ -0,0 +1,385 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import org.jeasy.random.api.PrimitiveBooleanRandomizer;
+import org.jeasy.random.api.PrimitiveByteRandomizer;
+import org.jeasy.random.api.PrimitiveCharRandomizer;
+import org.jeasy.random.api.PrimitiveDoubleRandomizer;
+import org.jeasy.random.api.PrimitiveFloatRandomizer;
+import org.jeasy.random.api.PrimitiveIntRandomizer;
+import org.jeasy.random.api.PrimitiveLongRandomizer;
+import org.jeasy.random.api.PrimitiveShortRandomizer;
+import org.jeasy.random.api.Randomizer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.jeasy.random.util.ReflectionUtils.getReadMethod;
+import static org.jeasy.random.util.ReflectionUtils.getWriteMethod;
+
+/**
+ * Reads and writes the value of a field, either directly or through its accessor methods.
+ *
+ * Method handles are resolved once per field (and cached per declaring class), so that reading
+ * or writing a value does not look up setters/getters or toggle the accessible flag of the field
+ * again. Values of primitive randomizers can be written without being boxed using
+ * {@link #setPrimitive(Object, Randomizer, boolean)}. When a handle cannot be created (e.g. the
+ * field is not accessible from this module), reflection is used as a fallback.
+ *
+ * <strong>This class is intended for internal use only.</strong>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public final class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle WRAP_ACCESSOR_EXCEPTION;
+
+    static {
+        try {
+            WRAP_ACCESSOR_EXCEPTION = LOOKUP.findStatic(FieldAccessor.class, "wrapAccessorException",
+                    MethodType.methodType(void.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<Map<String, FieldAccessor>>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Field field;
+
+    // all handles are adapted to (Object)Object for readers and (Object, fieldType)void for writers
+    private final MethodHandle fieldReader;
+    private final MethodHandle fieldWriter;
+    private final MethodHandle genericFieldWriter;
+    private final MethodHandle propertyWriter;
+    // accessor methods wrapped so that their exceptions are told apart from invocation errors
+    private final MethodHandle checkedPropertyReader;
+    private final MethodHandle checkedPropertyWriter;
+    private final MethodHandle genericPropertyWriter;
+
+    private FieldAccessor(final Field field) {
+        this.field = field;
+        Class<?> fieldType = field.getType();
+        MethodType writerType = MethodType.methodType(void.class, Object.class, fieldType);
+        MethodType readerType = MethodType.methodType(Object.class, Object.class);
+        boolean accessible = field.trySetAccessible();
+        fieldReader = accessible ? adapt(unreflectGetter(field), readerType) : null;
+        fieldWriter = accessible ? adapt(unreflectSetter(field), writerType) : null;
+        genericFieldWriter = fieldWriter != null ? fieldWriter.asType(writerType.changeParameterType(1, Object.class)) : null;
+        propertyWriter = adapt(unreflect(getWriteMethod(field)), writerType);
+        checkedPropertyReader = checked(adapt(unreflect(getReadMethod(field)), readerType));
+        checkedPropertyWriter = checked(propertyWriter);
+        genericPropertyWriter = checkedPropertyWriter != null ? checkedPropertyWriter.asType(writerType.changeParameterType(1, Object.class)) : null;
+    }
+
+    /**
+     * Get the accessor of the given field.
+     *
+     * @param field the field to access
+     * @return the (cached) accessor of the field
+     */
+    public static FieldAccessor of(final Field field) {
+        return ACCESSORS.get(field.getDeclaringClass()).computeIfAbsent(field.getName(), name -> new FieldAccessor(copyOf(field)));
+    }
+
+    /**
+     * Get the value of the field in the target object, bypassing its getter if any.
+     *
+     * @param target the object to read the field of
+     * @return the value of the field
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    public Object getFieldValue(final Object target) throws IllegalAccessException {
+        if (fieldReader == null) {
+            return field.get(target);
+        }
+        try {
+            return (Object) fieldReader.invokeExact(target);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable throwable) {
+            throw sneakyThrow(throwable);
+        }
+    }
+
+    /**
+     * Get the value of the field in the target object, using its getter if any.
+     *
+     * @param target the object to read the property of
+     * @return the value of the property
+     * @throws IllegalAccessException if the field cannot be accessed
+     */
+    public Object getProperty(final Object target) throws IllegalAccessException {
+        if (checkedPropertyReader != null) {
+            try {
+                return (Object) checkedPropertyReader.invokeExact(target);
+            } catch (AccessorInvocationException e) {
+                // otherwise, get field directly
+            } catch (ClassCastException | NullPointerException e) {
+                throw new IllegalArgumentException(e);
+            } catch (Throwable throwable) {
+                throw sneakyThrow(throwable);
+            }
+        }
+        return getFieldValue(target);
+    }
+
+    /**
+     * Set the value of the field in the target object, bypassing its setter if any.
+     *
+     * @param target the object to set the field on
+     * @param value the value to set
+     * @throws IllegalAccessException if the field cannot be set
+     */
+    public void setFieldValue(final Object target, final Object value) throws IllegalAccessException {
+        if (genericFieldWriter == null) {
+            field.set(target, value);
+            return;
+        }
+        try {
+            genericFieldWriter.invokeExact(target, value);
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException(e);
+        } catch (Throwable throwable) {
+            throw sneakyThrow(throwable);
+        }
+    }
+
+    /**
+     * Set the value of the field in the target object, using its setter if any.
+     *
+     * @param target the object to set the property on
+     * @param value the value to set
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the setter throws an exception
+     */
+    public void setProperty(final Object target, final Object value) throws IllegalAccessException, InvocationTargetException {
+        if (genericPropertyWriter == null) {
+            setFieldValue(target, value);
+            return;
+        }
+        try {
+            genericPropertyWriter.invokeExact(target, value);
+        } catch (AccessorInvocationException e) {
+            throw new InvocationTargetException(e.getCause());
+        } catch (ClassCastException | NullPointerException e) {
+            // the value does not match the type of the setter parameter
+            throw new IllegalArgumentException(e);
+        } catch (Throwable throwable) {
+            throw sneakyThrow(throwable);
+        }
+    }
+
+    /**
+     * Set the value generated by a primitive randomizer (like {@link PrimitiveIntRandomizer}) without boxing it.
+     *
+     * @param target the object to set the value on
+     * @param randomizer the randomizer generating the value
+     * @param bypassSetter true to write the field directly, false to use its setter if any
+     * @return false if the field is not primitive or if the randomizer does not generate unboxed values
+     * of its type, in which case no value is generated
+     * @throws IllegalAccessException if the field cannot be set
+     * @throws InvocationTargetException if the setter throws an exception
+     */
+    public boolean setPrimitive(final Object target, final Randomizer<?> randomizer, final boolean bypassSetter) throws IllegalAccessException, InvocationTargetException {
+        MethodHandle writer = bypassSetter || checkedPropertyWriter == null ? fieldWriter : checkedPropertyWriter;
+        if (writer == null) {
+            return false;
+        }
+        try {
+            switch (field.getType().getName()) {
+                case "int":
+                    if (randomizer instanceof PrimitiveIntRandomizer) {
+                        writer.invokeExact(target, ((PrimitiveIntRandomizer) randomizer).getRandomInt());
+                        return true;
+                    }
+                    return false;
+                case "long":
+                    if (randomizer instanceof PrimitiveLongRandomizer) {
+                        writer.invokeExact(target, ((PrimitiveLongRandomizer) randomizer).getRandomLong());
+                        return true;
+                    }
+                    return false;
+                case "double":
+                    if (randomizer instanceof PrimitiveDoubleRandomizer) {
+                        writer.invokeExact(target, ((PrimitiveDoubleRandomizer) randomizer).getRandomDouble());
+                        return true;
+                    }
+                    return false;
+                case "float":
+                    if (randomizer instanceof PrimitiveFloatRandomizer) {
+                        writer.invokeExact(target, ((PrimitiveFloatRandomizer) randomizer).getRandomFloat());
+                        return true;
+                    }
+                    return false;
+                case "short":
+                    if (randomizer instanceof PrimitiveShortRandomizer) {
+                        writer.invokeExact(target, ((PrimitiveShortRandomizer) randomizer).getRandomShort());
+                        return true;
+                    }
+                    return false;
+                case "byte":
+                    if (randomizer instanceof PrimitiveByteRandomizer) {
+                        writer.invokeExact(target, ((PrimitiveByteRandomizer) randomizer).getRandomByte());
+                        return true;
+                    }
+                    return false;
+                case "boolean":
+                    if (randomizer instanceof PrimitiveBooleanRandomizer) {
+                        writer.invokeExact(target, ((PrimitiveBooleanRandomizer) randomizer).getRandomBoolean());
+                        return true;
+                    }
+                    return false;
+                case "char":
+                    if (randomizer instanceof PrimitiveCharRandomizer) {
+                        writer.invokeExact(target, ((PrimitiveCharRandomizer) randomizer).getRandomChar());
+                        return true;
+                    }
+                    return false;
+                default:
+                    return false;
+            }
+        } catch (AccessorInvocationException e) {
+            throw new InvocationTargetException(e.getCause());
+        } catch (Throwable throwable) {
+            // exceptions thrown by the randomizer are propagated as is
+            throw sneakyThrow(throwable);
+        }
+    }
+
+    /**
+     * Get a method handle writing the field directly, of type {@code (Object, fieldType)void}.
+     *
+     * @return the field writer, or null if the field is not accessible
+     */
+    public MethodHandle getFieldWriter() {
+        return fieldWriter;
+    }
+
+    /**
+     * Get a method handle calling the setter of the field, of type {@code (Object, fieldType)void}.
+     *
+     * @return the property writer, or null if the field has no setter
+     */
+    public MethodHandle getPropertyWriter() {
+        return propertyWriter;
+    }
+
+    private static MethodHandle adapt(final MethodHandle handle, final MethodType type) {
+        if (handle == null) {
+            return null;
+        }
+        MethodHandle adapted = handle;
+        if (handle.type().parameterCount() == type.parameterCount() - 1) {
+            // static member: ignore the target object
+            adapted = MethodHandles.dropArguments(adapted, 0, Object.class);
+        }
+        return adapted.asType(type);
+    }
+
+    /*
+     * Wrap any exception thrown by the accessor method in an AccessorInvocationException,
+     * like Method#invoke wraps them in an InvocationTargetException.
+     */
+    private static MethodHandle checked(final MethodHandle accessor) {
+        if (accessor == null) {
+            return null;
+        }
+        MethodType type = accessor.type();
+        MethodHandle handler = MethodHandles.dropArguments(WRAP_ACCESSOR_EXCEPTION, 1, type.parameterList());
+        if (type.returnType() != void.class) {
+            handler = MethodHandles.filterReturnValue(handler, MethodHandles.zero(type.returnType()));
+        }
+        return MethodHandles.catchException(accessor, Throwable.class, handler);
+    }
+
+    private static void wrapAccessorException(final Throwable throwable) {
+        throw new AccessorInvocationException(throwable);
+    }
+
+    private static MethodHandle unreflectGetter(final Field field) {
+        try {
+            return LOOKUP.unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectSetter(final Field field) {
+        try {
+            return LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            // e.g. static final fields or record components
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(final Optional<Method> method) {
+        if (!method.isPresent()) {
+            return null;
+        }
+        try {
+            return LOOKUP.unreflect(method.get());
+        } catch (IllegalAccessException e) {
+            // e.g. public method of a non-public class: use the field directly
+            return null;
+        }
+    }
+
+    private static Field copyOf(final Field field) {
+        // work on a private copy so that the accessible flag of the caller's field is left untouched
+        try {
+            return field.getDeclaringClass().getDeclaredField(field.getName());
+        } catch (NoSuchFieldException e) {
+            return field;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(final Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+    private static class AccessorInvocationException extends RuntimeException {
+
+        AccessorInvocationException(final Throwable cause) {
+            super(cause);
+        }
+    }
+}
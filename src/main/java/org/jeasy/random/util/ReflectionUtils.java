@@ -24,6 +24,7 @@
 package org.jeasy.random.util;
 
 import org.jeasy.random.annotation.RandomizerArgument;
+import org.jeasy.random.EasyRandomParameters;
 import org.jeasy.random.ObjectCreationException;
 import org.jeasy.random.api.Randomizer;
 import org.objenesis.ObjenesisStd;
@@ -52,6 +53,15 @@ import static org.jeasy.random.util.ConversionUtils.convertArguments;
  */
 public final class ReflectionUtils {
 
+    private static final ClassValue<List<Class<?>>> PERMITTED_CONCRETE_SUBTYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            Set<Class<?>> concreteSubTypes = new LinkedHashSet<>();
+            collectPermittedConcreteSubTypes(type, concreteSubTypes);
+            return List.copyOf(concreteSubTypes);
+        }
+    };
+
     private ReflectionUtils() {
     }
 
@@ -74,6 +84,9 @@ public final class ReflectionUtils {
 
             @Override
             public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                if (method.isDefault()) {
+                    return InvocationHandler.invokeDefault(proxy, method, args);
+                }
                 if ("getRandomValue".equals(method.getName())) {
                     Method getMethod = target.getClass().getMethod("get");
                     getMethod.setAccessible(true);
@@ -127,17 +140,7 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if the property cannot be set
      */
     public static void setProperty(final Object object, final Field field, final Object value) throws IllegalAccessException, InvocationTargetException {
-        try {
-            Optional<Method> setter = getWriteMethod(field);
-            if (setter.isPresent()) {
-                setter.get().invoke(object, value);
-            } else {
-                setFieldValue(object, field, value);
-            }
-        } catch (IllegalAccessException e) {
-            // otherwise, set field using reflection
-            setFieldValue(object, field, value);
-        }
+        FieldAccessor.of(field).setProperty(object, value);
     }
 
     /**
@@ -149,9 +152,7 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if the property cannot be set
      */
     public static void setFieldValue(final Object object, final Field field, final Object value) throws IllegalAccessException {
-        boolean access = field.trySetAccessible();
-        field.set(object, value);
-        field.setAccessible(access);
+        FieldAccessor.of(field).setFieldValue(object, value);
     }
 
     /**
@@ -164,17 +165,7 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if the property cannot be retrieved
      */
     public static Object getProperty(final Object object, final Field field) throws IllegalAccessException {
-        try {
-            Optional<Method> getter = getReadMethod(field);
-            if (getter.isPresent()) {
-                return getter.get().invoke(object);
-            } else {
-                return getFieldValue(object, field);
-            }
-        } catch (IllegalAccessException | InvocationTargetException  e) {
-            // otherwise, get field using reflection
-            return getFieldValue(object, field);
-        }
+        return FieldAccessor.of(field).getProperty(object);
     }
 
     /**
@@ -186,10 +177,7 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if field cannot be accessed
      */
     public static Object getFieldValue(final Object object, final Field field) throws IllegalAccessException {
-        boolean access = field.trySetAccessible();
-        Object value = field.get(object);
-        field.setAccessible(access);
-        return value;
+        return FieldAccessor.of(field).getFieldValue(object);
     }
 
     /**
@@ -217,12 +205,21 @@ public final class ReflectionUtils {
      * @throws IllegalAccessException if field cannot be accessed
      */
     public static boolean isPrimitiveFieldWithDefaultValue(final Object object, final Field field) throws IllegalAccessException {
-        Class<?> fieldType = field.getType();
-        if (!fieldType.isPrimitive()) {
+        if (!field.getType().isPrimitive()) {
             return false;
         }
-        Object fieldValue = getProperty(object, field);
-        if (fieldValue == null) {
+        return isPrimitiveDefaultValue(field.getType(), getProperty(object, field));
+    }
+
+    /**
+     * Check if a value is the default value of the given primitive type.
+     *
+     * @param fieldType  the type of the value
+     * @param fieldValue the (boxed) value to check
+     * @return true if the type is primitive and the value is its default value, false otherwise
+     */
+    public static boolean isPrimitiveDefaultValue(final Class<?> fieldType, final Object fieldValue) {
+        if (!fieldType.isPrimitive() || fieldValue == null) {
             return false;
         }
         if (fieldType.equals(boolean.class) && (boolean) fieldValue == false) {
@@ -314,6 +311,18 @@ public final class ReflectionUtils {
         return type.isEnum();
     }
 
+    /**
+     * Check if a type is a sealed interface or abstract class, which can be resolved to one of its
+     * permitted subtypes without scanning the classpath. Enums with constant bodies are implicitly
+     * sealed, but are not considered as such here.
+     *
+     * @param type the type to check.
+     * @return true if the type is a sealed interface or abstract class, false otherwise.
+     */
+    public static boolean isAbstractSealedType(final Class<?> type) {
+        return type.isSealed() && isAbstract(type) && !isEnumType(type);
+    }
+
     /**
      * Check if a type is a collection type.
      *
@@ -344,6 +353,21 @@ public final class ReflectionUtils {
         return !isWildcardType(type) && !isTypeVariable(type) && !isCollectionType(type) && !isParameterizedType(type);
     }
 
+    /**
+     * Get a type argument of a parameterized type, if it is populatable.
+     *
+     * @param type the type to get the type argument of
+     * @param index the index of the type argument
+     * @return the type argument, or null if the type is not parameterized or if the type argument is not populatable
+     */
+    public static Class<?> getPopulatableTypeArgument(final Type type, final int index) {
+        if (!isParameterizedType(type)) {
+            return null;
+        }
+        Type typeArgument = ((ParameterizedType) type).getActualTypeArguments()[index];
+        return isPopulatable(typeArgument) ? (Class<?>) typeArgument : null;
+    }
+
     /**
      * Check if a type should be introspected for internal fields.
      *
@@ -418,7 +442,7 @@ public final class ReflectionUtils {
     }
 
     /**
-     * Searches the classpath for all public concrete subtypes of the given interface or abstract class.
+     * Searches the classpath (including system modules) for all public concrete subtypes of the given interface or abstract class.
      *
      * @param type to search concrete subtypes of
      * @param <T>  the actual type to introspect
@@ -428,6 +452,56 @@ public final class ReflectionUtils {
         return ClassGraphFacade.getPublicConcreteSubTypesOf(type);
     }
 
+    /**
+     * Searches the packages configured in the given parameters for all public concrete subtypes of the given
+     * interface or abstract class.
+     *
+     * @param type to search concrete subtypes of
+     * @param parameters defining the packages to scan and whether system modules should be scanned
+     * @param <T>  the actual type to introspect
+     * @return a list of all concrete subtypes found
+     */
+    public static <T> List<Class<?>> getPublicConcreteSubTypesOf(final Class<T> type, final EasyRandomParameters parameters) {
+        return ClassGraphFacade.getPublicConcreteSubTypesOf(type, parameters.getScanPackages(), parameters.isScanSystemModules(),
+                parameters.getSubTypeIndexDirectory());
+    }
+
+    /**
+     * Get the concrete subtypes of the given sealed type, by walking its {@link Class#getPermittedSubclasses()
+     * permitted subclasses} recursively. Non sealed abstract subtypes are skipped, since their subtypes
+     * are not known without scanning the classpath. The result is cached per type and follows the
+     * declaration order of the permits clauses.
+     *
+     * @param type to get concrete subtypes of
+     * @return a list of all concrete subtypes permitted by the given type, or an empty list if the type is not sealed
+     */
+    public static List<Class<?>> getPermittedConcreteSubTypesOf(final Class<?> type) {
+        return PERMITTED_CONCRETE_SUBTYPES.get(type);
+    }
+
+    private static void collectPermittedConcreteSubTypes(final Class<?> type, final Set<Class<?>> concreteSubTypes) {
+        Class<?>[] permittedSubclasses = type.getPermittedSubclasses();
+        if (permittedSubclasses == null) {
+            return;
+        }
+        for (Class<?> permittedSubclass : permittedSubclasses) {
+            if (!isAbstract(permittedSubclass)) {
+                concreteSubTypes.add(permittedSubclass);
+            }
+            collectPermittedConcreteSubTypes(permittedSubclass, concreteSubTypes);
+        }
+    }
+
+    /**
+     * Start scanning the packages configured in the given parameters for concrete subtypes in the background,
+     * so that the scan is (at least partly) done when the first interface or abstract type is populated.
+     *
+     * @param parameters defining the packages to scan and whether system modules should be scanned
+     */
+    public static void scanClasspathForConcreteTypes(final EasyRandomParameters parameters) {
+        ClassGraphFacade.scan(parameters.getScanPackages(), parameters.isScanSystemModules(), parameters.getSubTypeIndexDirectory());
+    }
+
     /**
      * Filters a list of types to keep only elements having the same parameterized types as the given type.
      *
@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+/**
+ * A {@link Random} that draws its values from the {@link RandomGenerator} bound to the current thread
+ * (if any), and from its own seeded state otherwise.
+ *
+ * Randomizers use this class so that a single set of randomizers can be shared by several threads,
+ * each thread drawing values from its own generator instead of contending on the (atomically updated)
+ * seed of a shared {@link Random}. When no generator is bound, this class behaves exactly like a
+ * {@link Random} created with the same seed.
+ *
+ * <strong>This class is intended for internal use only.</strong>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+public class ScopedRandom extends Random {
+
+    private static final ThreadLocal<RandomGenerator> BOUND_GENERATOR = new ThreadLocal<>();
+
+    /**
+     * Create a new {@link ScopedRandom}.
+     */
+    public ScopedRandom() {
+        super();
+    }
+
+    /**
+     * Create a new {@link ScopedRandom}.
+     *
+     * @param seed initial seed used when no generator is bound to the current thread
+     */
+    public ScopedRandom(final long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected int next(final int bits) {
+        RandomGenerator generator = BOUND_GENERATOR.get();
+        if (generator == null) {
+            return super.next(bits);
+        }
+        return generator.nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        RandomGenerator generator = BOUND_GENERATOR.get();
+        if (generator == null) {
+            super.nextBytes(bytes);
+        } else {
+            generator.nextBytes(bytes);
+        }
+    }
+
+    /**
+     * Bind a generator to the current thread. Values of all {@link ScopedRandom}s used by the
+     * current thread will be drawn from this generator until {@link #restore(RandomGenerator)} is called.
+     *
+     * @param generator to bind to the current thread
+     * @return the generator previously bound to the current thread, or null if none
+     */
+    public static RandomGenerator bind(final RandomGenerator generator) {
+        RandomGenerator previous = BOUND_GENERATOR.get();
+        BOUND_GENERATOR.set(generator);
+        return previous;
+    }
+
+    /**
+     * Restore the generator that was bound to the current thread before calling {@link #bind(RandomGenerator)}.
+     *
+     * @param previous the value returned by {@link #bind(RandomGenerator)}
+     */
+    public static void restore(final RandomGenerator previous) {
+        if (previous == null) {
+            BOUND_GENERATOR.remove();
+        } else {
+            BOUND_GENERATOR.set(previous);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jeasy.random.processor.SubTypeIndexProcessor;
+
+/**
+ * A subtype index persisted in a file, so that the classpath is not scanned again by each JVM
+ * as long as it does not change.
+ *
+ * The first line of the file is a fingerprint of the classpath (paths, sizes and modification times of
+ * its files, and the JVM version when system modules are scanned). The following lines map a type name
+ * to the comma separated names of its public concrete subtypes. An index whose fingerprint does not
+ * match the current classpath is ignored, and rebuilt by the caller. Indexes generated at compile time
+ * by the {@link org.jeasy.random.processor.SubTypeIndexProcessor} have the same format, with the list of
+ * indexed packages instead of the fingerprint.
+ *
+ * <strong>This class is intended for internal use only.</strong>
+ *
+ * @author Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ */
+final class SubTypeIndexFile {
+
+    private SubTypeIndexFile() {
+    }
+
+    /**
+     * Return the file of the index of the given scan scope in the given directory.
+     *
+     * @param directory containing index files
+     * @param packages the scanned packages
+     * @param scanSystemModules whether system modules are scanned
+     * @return the index file of the given scope
+     */
+    static Path of(final Path directory, final Collection<String> packages, final boolean scanSystemModules) {
+        String scope = String.join(",", new TreeSet<>(packages)) + ";" + scanSystemModules;
+        return directory.resolve("subtypes-" + hash(scope).substring(0, 16) + ".idx");
+    }
+
+    /**
+     * Compute the fingerprint of the given classpath.
+     *
+     * Jars are fingerprinted from their own metadata. The modification time of a directory does not
+     * change when a file it contains is modified, so the files of class directories are walked and
+     * each of them is read once. This costs one file system access per class file, which is much less
+     * than a scan (that reads the content of each class file), but grows with the size of class directories.
+     *
+     * @param classpath files and directories of the classpath
+     * @param scanSystemModules whether system modules are scanned
+     * @return the fingerprint of the classpath
+     */
+    static String fingerprint(final List<File> classpath, final boolean scanSystemModules) {
+        StringBuilder content = new StringBuilder();
+        if (scanSystemModules) {
+            content.append(Runtime.version()).append(System.getProperty("java.home")).append('\n');
+        }
+        for (File element : classpath) {
+            Path path = element.toPath().toAbsolutePath();
+            if (Files.isDirectory(path)) {
+                appendFiles(content, path);
+            } else {
+                append(content, path);
+            }
+        }
+        return hash(content.toString());
+    }
+
+    /**
+     * Read the index from the given file.
+     *
+     * @param file of the index
+     * @param fingerprint of the current classpath
+     * @return the names of public concrete subtypes by type name, or null if there is no index
+     * for the given fingerprint
+     * @throws IOException if the file cannot be read
+     */
+    static Map<String, List<String>> read(final Path file, final String fingerprint) throws IOException {
+        String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        String[] lines = content.split("\n");
+        if (!lines[0].equals(fingerprint)) {
+            return null;
+        }
+        Map<String, Set<String>> subTypeNames = new HashMap<>();
+        readEntries(lines, 1, subTypeNames);
+        return toLists(subTypeNames);
+    }
+
+    /**
+     * Read and merge the indexes generated at compile time by the
+     * {@link org.jeasy.random.processor.SubTypeIndexProcessor} that are visible from the given class loader.
+     *
+     * Each index lists the packages of the classes it was generated from. Unless uncovered packages are
+     * accepted, the indexes are only used if they cover all the given packages, as other classes of the
+     * classpath are not indexed.
+     *
+     * @param classLoader to load indexes from
+     * @param packages to keep subtypes of, or an empty collection to keep all subtypes
+     * @param acceptUncoveredPackages whether to use the indexes even if they do not cover all the given packages
+     * @return the sorted names of public concrete subtypes by type name, or null if the indexes in the classpath
+     * cannot be used for the given packages
+     * @throws IOException if an index cannot be read
+     */
+    static Map<String, List<String>> readCompiledIndexes(final ClassLoader classLoader, final Collection<String> packages,
+                                                         final boolean acceptUncoveredPackages) throws IOException {
+        Enumeration<URL> indexes = classLoader.getResources(SubTypeIndexProcessor.SUBTYPE_INDEX_RESOURCE);
+        if (!indexes.hasMoreElements()) {
+            return null;
+        }
+        Map<String, Set<String>> uniqueSubTypeNames = new HashMap<>();
+        Set<String> indexedPackages = new HashSet<>();
+        while (indexes.hasMoreElements()) {
+            String[] lines;
+            try (InputStream index = indexes.nextElement().openStream()) {
+                lines = new String(index.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            }
+            if (lines[0].startsWith(SubTypeIndexProcessor.INDEXED_PACKAGES_PREFIX)) {
+                indexedPackages.addAll(Arrays.asList(lines[0].substring(SubTypeIndexProcessor.INDEXED_PACKAGES_PREFIX.length()).split(",")));
+            }
+            readEntries(lines, 0, uniqueSubTypeNames);
+        }
+        if (!acceptUncoveredPackages && (packages.isEmpty() || !indexedPackages.containsAll(packages))) {
+            return null;
+        }
+        Map<String, List<String>> subTypeNames = toLists(uniqueSubTypeNames);
+        for (List<String> names : subTypeNames.values()) {
+            names.removeIf(name -> !isInPackages(name, packages));
+            names.sort(Comparator.naturalOrder());
+        }
+        return subTypeNames;
+    }
+
+    /**
+     * Write the index to the given file. The file is replaced atomically when possible,
+     * so that concurrent JVMs never read a partially written index.
+     *
+     * @param file of the index
+     * @param fingerprint of the current classpath
+     * @param subTypeNames the names of public concrete subtypes by type name
+     * @throws IOException if the file cannot be written
+     */
+    static void write(final Path file, final String fingerprint, final Map<String, List<String>> subTypeNames) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                writer.write(fingerprint);
+                writer.write('\n');
+                for (Map.Entry<String, List<String>> entry : subTypeNames.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('=');
+                    writer.write(String.join(",", entry.getValue()));
+                    writer.write('\n');
+                }
+            }
+            try {
+                Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    // subtypes are collected in sets, as the same subtype may be listed by several indexes
+    private static void readEntries(final String[] lines, final int from, final Map<String, Set<String>> subTypeNames) {
+        for (int i = from; i < lines.length; i++) {
+            int separator = lines[i].indexOf('=');
+            if (separator > 0 && !lines[i].startsWith("#")) {
+                String type = lines[i].substring(0, separator);
+                Set<String> subTypes = subTypeNames.computeIfAbsent(type, key -> new LinkedHashSet<>());
+                for (String subType : lines[i].substring(separator + 1).split(",")) {
+                    if (!subType.isEmpty()) {
+                        subTypes.add(subType);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<String, List<String>> toLists(final Map<String, Set<String>> subTypeNames) {
+        Map<String, List<String>> lists = new HashMap<>();
+        subTypeNames.forEach((type, names) -> lists.put(type, new ArrayList<>(names)));
+        return lists;
+    }
+
+    private static boolean isInPackages(final String name, final Collection<String> packages) {
+        if (packages.isEmpty()) {
+            return true;
+        }
+        for (String packageName : packages) {
+            if (name.startsWith(packageName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // attributes are read once per file, by the walk itself
+    private static void appendFiles(final StringBuilder content, final Path directory) {
+        Map<Path, BasicFileAttributes> files = new TreeMap<>();
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+                    if (attributes.isRegularFile()) {
+                        files.put(file, attributes);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        files.forEach((file, attributes) -> append(content, file, attributes));
+    }
+
+    private static void append(final StringBuilder content, final Path file) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // missing classpath elements are part of the fingerprint as well
+            content.append(file).append(":missing\n");
+            return;
+        }
+        append(content, file, attributes);
+    }
+
+    private static void append(final StringBuilder content, final Path file, final BasicFileAttributes attributes) {
+        content.append(file).append(':').append(attributes.size()).append(':').append(attributes.lastModifiedTime().toMillis()).append('\n');
+    }
+
+    private static String hash(final String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
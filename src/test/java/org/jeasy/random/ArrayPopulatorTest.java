@@ -24,6 +24,10 @@
 package org.jeasy.random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Array;
@@ -65,6 +69,17 @@ class ArrayPopulatorTest {
         assertThat(strings).containsOnly(STRING);
     }
 
+    @Test
+    void getRandomArrayShouldBeFilledInBatchWhenPossible() {
+        when(context.getParameters()).thenReturn(new EasyRandomParameters().collectionSizeRange(INT, INT));
+        when(easyRandom.fillArray(any(int[].class), eq(int.class), eq(context))).thenReturn(true);
+
+        int[] ints = (int[]) arrayPopulator.getRandomArray(int[].class, context);
+
+        assertThat(ints).hasSize(INT);
+        verify(easyRandom, never()).doPopulateBean(int.class, context);
+    }
+
     /*
      * Integration tests for arrays population
      */
@@ -104,6 +119,18 @@ class ArrayPopulatorTest {
         assertThat(toObjectArray(bean.getBooleanArray())).hasOnlyElementsOfType(Boolean.class);
     }
 
+    @Test
+    void primitiveArraysShouldBePopulatedWithTheRandomizerRegisteredForTheComponentType() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .collectionSizeRange(INT, INT)
+                .randomize(byte.class, () -> (byte) 7);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+
+        final byte[] bytes = easyRandom.nextObject(byte[].class);
+
+        assertThat(bytes).hasSize(INT).containsOnly((byte) 7);
+    }
+
     @Test
     void wrapperTypeArraysShouldBeCorrectlyPopulated() {
         EasyRandom easyRandom = new EasyRandom();
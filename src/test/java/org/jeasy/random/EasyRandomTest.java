@@ -25,6 +25,13 @@ package org.jeasy.random;
 
 import org.jeasy.random.api.Randomizer;
 import org.jeasy.random.beans.*;
+import org.jeasy.random.randomizers.CityRandomizer;
+import org.jeasy.random.randomizers.FullNameRandomizer;
+import org.jeasy.random.randomizers.RegularExpressionRandomizer;
+import org.jeasy.random.randomizers.number.ByteRandomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.range.LocalDateRangeRandomizer;
+import org.jeasy.random.randomizers.text.StringRandomizer;
 import org.jeasy.random.util.ReflectionUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -40,6 +47,7 @@ import java.util.stream.Stream;
 import static java.sql.Timestamp.valueOf;
 import static java.time.LocalDateTime.of;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.jeasy.random.FieldPredicates.*;
@@ -114,6 +122,112 @@ class EasyRandomTest {
         assertThat(persons).hasSize(2).hasOnlyElementsOfType(Person.class);
     }
 
+    @Test
+    void generatedStreamShouldBeTheSameWhetherProcessedSequentiallyOrInParallel() {
+        List<Person> sequential = new EasyRandom().objects(Person.class, 20).collect(toList());
+        List<Person> parallel = new EasyRandom().objects(Person.class, 20).parallel().collect(toList());
+
+        assertThat(easyRandom.objects(Person.class, 20).spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(parallel).extracting(Person::getName, Person::getEmail, Person::getBirthDate, Person::getNicknames)
+                .containsExactlyElementsOf(sequential.stream().map(person -> tuple(person.getName(), person.getEmail(), person.getBirthDate(), person.getNicknames())).collect(toList()));
+    }
+
+    @Test
+    void successiveStreamsShouldContinueTheSequence() {
+        List<Person> first = easyRandom.objects(Person.class, 5).collect(toList());
+        List<Person> second = easyRandom.objects(Person.class, 5).collect(toList());
+
+        assertThat(second).extracting(Person::getName).doesNotContainAnyElementsOf(first.stream().map(Person::getName).collect(toList()));
+        assertThat(second.get(2).getName()).isEqualTo(new EasyRandom().nextObject(Person.class, 7).getName());
+    }
+
+    @Test
+    void objectAtGivenIndexShouldBeTheSameAsInTheGeneratedStream() {
+        Person expected = easyRandom.objects(Person.class, 10).skip(7).findFirst().get();
+
+        Person actual = new EasyRandom().nextObject(Person.class, 7);
+
+        assertThat(actual.getName()).isEqualTo(expected.getName());
+        assertThat(actual.getEmail()).isEqualTo(expected.getEmail());
+        assertThat(actual.getBirthDate()).isEqualTo(expected.getBirthDate());
+        assertThat(actual.getNicknames()).isEqualTo(expected.getNicknames());
+        assertThat(easyRandom.nextObject(Person.class, 8).getName()).isNotEqualTo(actual.getName());
+    }
+
+    @Test
+    void objectAtGivenIndexShouldBeTheSameWithFakerBasedAndRegularExpressionRandomizers() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(named("name").and(inClass(Human.class)), new FullNameRandomizer())
+                .randomize(named("phoneNumber"), new RegularExpressionRandomizer("\\d{3}-[A-Z]{4}"))
+                .randomize(named("city"), new CityRandomizer());
+        easyRandom = new EasyRandom(parameters);
+
+        Person first = easyRandom.nextObject(Person.class, 3);
+        easyRandom.nextObject(Person.class, 5);
+        Person second = easyRandom.nextObject(Person.class, 3);
+        Person fromAnotherInstance = new EasyRandom(parameters).nextObject(Person.class, 3);
+
+        assertThat(asList(second, fromAnotherInstance)).allSatisfy(person -> {
+            assertThat(person.getName()).isEqualTo(first.getName());
+            assertThat(person.getPhoneNumber()).isEqualTo(first.getPhoneNumber()).matches("\\d{3}-[A-Z]{4}");
+            assertThat(person.getAddress().getCity()).isEqualTo(first.getAddress().getCity());
+            assertThat(person.getBirthDate()).isEqualTo(first.getBirthDate());
+        });
+    }
+
+    @Test
+    void whenIndexIsNegative_thenShouldThrowAnIllegalArgumentException() {
+        assertThatThrownBy(() -> easyRandom.nextObject(Person.class, -1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void customRandomizersShouldBeUsedForEachElementOfArraysAndCollections() {
+        when(randomizer.getRandomValue()).thenReturn(FOO);
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(String.class, randomizer)
+                .collectionSizeRange(3, 3);
+        easyRandom = new EasyRandom(parameters);
+
+        Person person = easyRandom.nextObject(Person.class);
+        ArrayBean arrayBean = easyRandom.nextObject(ArrayBean.class);
+
+        assertThat(person.getNicknames()).containsExactly(FOO, FOO, FOO);
+        assertThat(arrayBean.getStrings()).containsExactly(FOO, FOO, FOO);
+    }
+
+    @Test
+    void subclassesOfBatchRandomizersOverridingGetRandomValueShouldBeUsedForEachElementOfArrays() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomize(Integer.class, new IntegerRandomizer() {
+                    @Override
+                    public Integer getRandomValue() {
+                        return 42;
+                    }
+                });
+        easyRandom = new EasyRandom(parameters);
+
+        ArrayBean arrayBean = easyRandom.nextObject(ArrayBean.class);
+
+        assertThat(arrayBean.getIntegers()).isNotEmpty().containsOnly(42);
+    }
+
+    @Test
+    void batchMethodsShouldOnlyBeUsedWhenImplementedWithTheValueMethods() {
+        class ConstantIntegerRandomizer extends IntegerRandomizer {
+            @Override
+            public Integer getRandomValue() {
+                return 42;
+            }
+        }
+
+        assertThat(EasyRandom.isBatchMethodImplemented(IntegerRandomizer.class, "fill", Object.class)).isTrue();
+        assertThat(EasyRandom.isBatchMethodImplemented(ByteRandomizer.class, "fill", Object.class)).isTrue();
+        assertThat(EasyRandom.isBatchMethodImplemented(LocalDateRangeRandomizer.class, "getRandomValues", int.class)).isTrue();
+        assertThat(EasyRandom.isBatchMethodImplemented(ConstantIntegerRandomizer.class, "fill", Object.class)).isFalse();
+        assertThat(EasyRandom.isBatchMethodImplemented(StringRandomizer.class, "getRandomValues", int.class)).isFalse();
+        assertThat(EasyRandom.isBatchMethodImplemented(randomizer.getClass(), "getRandomValues", int.class)).isFalse();
+    }
+
     @Test
     void customRandomzierForFieldsShouldBeUsedToPopulateObjects() {
         when(randomizer.getRandomValue()).thenReturn(FOO);
@@ -485,6 +599,54 @@ class EasyRandomTest {
         assertThat(street.getType()).isNotNull();
     }
 
+    @Test
+    void instancesDerivedWithTheSameSeedShouldGenerateTheSameObjects() {
+        Person person = easyRandom.withSeed(42L).nextObject(Person.class);
+        Person otherPerson = easyRandom.withSeed(42L).nextObject(Person.class);
+
+        assertThat(person).usingRecursiveComparison().isEqualTo(otherPerson);
+    }
+
+    @Test
+    void instancesDerivedWithDifferentSeedsShouldGenerateDifferentObjects() {
+        Person person = easyRandom.withSeed(1L).nextObject(Person.class);
+        Person otherPerson = easyRandom.withSeed(2L).nextObject(Person.class);
+
+        assertThat(person.getName()).isNotEqualTo(otherPerson.getName());
+        assertThat(person.getEmail()).isNotEqualTo(otherPerson.getEmail());
+    }
+
+    @Test
+    void derivedInstancesShouldNotDependOnThePreviousUsageOfTheirParent() {
+        Person person = easyRandom.withSeed(42L).nextObject(Person.class);
+        easyRandom.nextObject(Person.class);
+        Person otherPerson = easyRandom.withSeed(42L).nextObject(Person.class);
+
+        assertThat(person).usingRecursiveComparison().isEqualTo(otherPerson);
+    }
+
+    @Test
+    void derivedInstancesShouldGenerateTheSameObjectsAsNewInstancesWhenAnAlgorithmIsConfigured() {
+        EasyRandomParameters parameters = new EasyRandomParameters().randomGeneratorAlgorithm("L64X128MixRandom");
+
+        Person person = new EasyRandom(parameters).withSeed(42L).nextObject(Person.class);
+        Person otherPerson = new EasyRandom(parameters.copy().seed(42L)).nextObject(Person.class);
+
+        assertThat(person).usingRecursiveComparison().isEqualTo(otherPerson);
+    }
+
+    @Test
+    void derivedInstancesShouldKeepTheParametersOfTheirParent() {
+        EasyRandom parent = new EasyRandom(new EasyRandomParameters()
+                .randomize(named("name").and(ofType(String.class)).and(inClass(Human.class)), () -> FOO)
+                .stringLengthRange(3, 3));
+
+        Person person = parent.withSeed(42L).nextObject(Person.class);
+
+        assertThat(person.getName()).isEqualTo(FOO);
+        assertThat(person.getEmail()).hasSize(3);
+    }
+
     @Disabled("Dummy test to see possible reasons of randomization failures")
     @Test
     void tryToRandomizeAllPublicConcreteTypesInTheClasspath(){
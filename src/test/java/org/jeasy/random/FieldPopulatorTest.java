@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.jeasy.random.api.ContextAwareRandomizer;
+import org.jeasy.random.api.PrimitiveIntRandomizer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +48,7 @@ import org.jeasy.random.beans.CollectionBean;
 import org.jeasy.random.beans.Human;
 import org.jeasy.random.beans.MapBean;
 import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Street;
 import org.jeasy.random.randomizers.misc.SkipRandomizer;
 
 @ExtendWith(MockitoExtension.class)
@@ -111,6 +113,32 @@ class FieldPopulatorTest {
         assertThat(human.getName()).isEqualTo(NAME);
     }
 
+    @Test
+    void whenPrimitiveRandomizerIsRegisteredForAPrimitiveField_thenTheFieldShouldBePopulatedWithoutBoxing() throws Exception {
+        // Given
+        Field number = Street.class.getDeclaredField("number");
+        Street street = new Street();
+        RandomizationContext context = new RandomizationContext(Street.class, new EasyRandomParameters());
+        randomizer = new PrimitiveIntRandomizer() {
+            @Override
+            public int getRandomInt() {
+                return 42;
+            }
+
+            @Override
+            public Integer getRandomValue() {
+                throw new AssertionError("The value should not be boxed");
+            }
+        };
+        when(randomizerProvider.getRandomizerByField(number, context)).thenReturn(randomizer);
+
+        // When
+        fieldPopulator.populateField(street, number, context);
+
+        // Then
+        assertThat(street.getNumber()).isEqualTo(42);
+    }
+
     @Test
     void whenContextAwareRandomizerIsRegisteredForTheField_thenTheFieldShouldBeOnTopOfTheSuppliedContextStack() throws Exception {
         // Given
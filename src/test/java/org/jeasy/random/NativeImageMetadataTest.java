@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.api.RandomizerRegistry;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.MethodInfo;
+import io.github.classgraph.ScanResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeImageMetadataTest {
+
+    private static final String METADATA_DIRECTORY = "META-INF/native-image/org.jeasy/easy-random/";
+
+    // type names, not method names like "<init>"
+    private static final Pattern NAME = Pattern.compile("\"name\"\\s*:\\s*\"([\\w.$]+)\"");
+
+    @Test
+    void reflectedTypesShouldExistAndBeInstantiable() throws Exception {
+        List<String> typeNames = getNames("reflect-config.json");
+
+        assertThat(typeNames).isNotEmpty();
+        for (String typeName : typeNames) {
+            Class<?> type = Class.forName(typeName);
+            assertThat(Modifier.isAbstract(type.getModifiers())).as(typeName).isFalse();
+            assertThat(type.getConstructors()).as(typeName).isNotEmpty();
+        }
+    }
+
+    @Test
+    void randomizersShouldBeRegisteredForReflection() throws Exception {
+        List<String> typeNames = getNames("reflect-config.json");
+
+        assertThat(typeNames).contains(
+                "org.jeasy.random.randomizers.text.StringRandomizer",
+                "org.jeasy.random.randomizers.range.IntegerRangeRandomizer",
+                "org.jeasy.random.randomizers.registry.InternalRandomizerRegistry");
+        for (String typeName : typeNames) {
+            if (typeName.startsWith("org.jeasy.random")) {
+                Class<?> type = Class.forName(typeName);
+                assertThat(Randomizer.class.isAssignableFrom(type) || RandomizerRegistry.class.isAssignableFrom(type)).as(typeName).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void allBuiltInRandomizersShouldBeRegisteredForReflection() throws Exception {
+        List<String> typeNames = getNames("reflect-config.json");
+        List<String> randomizerNames;
+        try (ScanResult scanResult = new ClassGraph().enableClassInfo().enableMethodInfo().ignoreClassVisibility().acceptPackages("org.jeasy.random.randomizers").scan()) {
+            randomizerNames = scanResult.getClassesImplementing(Randomizer.class.getName()).stream()
+                    .filter(classInfo -> classInfo.isPublic() && !classInfo.isAbstract() && !classInfo.isInterface())
+                    .filter(classInfo -> classInfo.getDeclaredConstructorInfo().stream().anyMatch(MethodInfo::isPublic))
+                    .map(ClassInfo::getName)
+                    .collect(Collectors.toList());
+        }
+
+        assertThat(randomizerNames).isNotEmpty();
+        assertThat(typeNames.stream().filter(name -> name.startsWith("org.jeasy.random.randomizers.") && !name.contains(".registry.")))
+                .containsExactlyInAnyOrderElementsOf(randomizerNames);
+    }
+
+    @Test
+    void randomizerRegistriesLoadedAsServicesShouldBeRegisteredForReflection() throws Exception {
+        List<String> typeNames = getNames("reflect-config.json");
+        List<String> registryNames = new ArrayList<>();
+        ServiceLoader.load(RandomizerRegistry.class).forEach(registry -> registryNames.add(registry.getClass().getName()));
+
+        assertThat(registryNames).isNotEmpty();
+        assertThat(typeNames).containsAll(registryNames);
+    }
+
+    @Test
+    void proxiedInterfacesShouldExist() throws Exception {
+        assertThat(read("proxy-config.json")).contains("\"org.jeasy.random.api.Randomizer\"");
+    }
+
+    private static List<String> getNames(final String configFile) throws IOException {
+        List<String> names = new ArrayList<>();
+        Matcher matcher = NAME.matcher(read(configFile));
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+        return names;
+    }
+
+    private static String read(final String configFile) throws IOException {
+        try (InputStream inputStream = NativeImageMetadataTest.class.getClassLoader().getResourceAsStream(METADATA_DIRECTORY + configFile)) {
+            assertThat(inputStream).as(configFile).isNotNull();
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -23,7 +23,12 @@
  */
 package org.jeasy.random;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.jeasy.random.api.RandomizerContext;
+import org.jeasy.random.records.Polygon;
+import org.jeasy.random.records.Square;
+import org.jeasy.random.records.Triangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -58,10 +63,95 @@ class ObjenesisObjectFactoryTest {
     @Test
     void whenNoConcreteTypeIsFound_thenShouldThrowAnInstantiationError() {
         Mockito.when(context.getParameters().isScanClasspathForConcreteTypes()).thenReturn(true);
+        Mockito.when(context.getParameters().getSubTypeIndexDirectory()).thenReturn(null);
         assertThatThrownBy(() -> objenesisObjectFactory.createInstance(AbstractFoo.class, context)).isInstanceOf(InstantiationError.class);
     }
 
+    @Test
+    void sealedTypesShouldBeResolvedToAPermittedSubtypeWithoutScanning() {
+        Polygon polygon = objenesisObjectFactory.createInstance(Polygon.class, context);
+
+        assertThat(polygon).isInstanceOfAny(Square.class, Triangle.class);
+    }
+
+    @Test
+    void noArgConstructorShouldBeUsedWhenAvailable() {
+        BeanWithPrivateConstructor bean = objenesisObjectFactory.createInstance(BeanWithPrivateConstructor.class, context);
+        BeanWithPrivateConstructor otherBean = objenesisObjectFactory.createInstance(BeanWithPrivateConstructor.class, context);
+
+        assertThat(bean.name).isEqualTo("foo");
+        assertThat(otherBean.name).isEqualTo("foo");
+        assertThat(otherBean).isNotSameAs(bean);
+    }
+
+    @Test
+    void typesWithoutNoArgConstructorShouldBeCreatedWithObjenesis() {
+        BeanWithoutNoArgConstructor bean = objenesisObjectFactory.createInstance(BeanWithoutNoArgConstructor.class, context);
+
+        assertThat(bean).isNotNull();
+        assertThat(bean.name).isNull();
+    }
+
+    @Test
+    void whenTheNoArgConstructorFails_thenObjenesisShouldBeUsed() {
+        BeanWithFailingConstructor bean = objenesisObjectFactory.createInstance(BeanWithFailingConstructor.class, context);
+
+        assertThat(bean).isNotNull();
+    }
+
+    @Test
+    void whenTheNoArgConstructorFails_thenObjenesisShouldBeUsedForSubsequentInstances() {
+        int invocations = BeanWithFailingConstructor.INVOCATIONS.get();
+
+        objenesisObjectFactory.createInstance(BeanWithFailingConstructor.class, context);
+        objenesisObjectFactory.createInstance(BeanWithFailingConstructor.class, context);
+
+        assertThat(BeanWithFailingConstructor.INVOCATIONS.get()).isEqualTo(invocations + 1);
+    }
+
+    @Test
+    void whenTheNoArgConstructorThrowsAnError_thenItShouldNotBeRecovered() {
+        assertThatThrownBy(() -> objenesisObjectFactory.createInstance(BeanWithConstructorThrowingAnError.class, context))
+                .isInstanceOf(ObjectCreationException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
     private abstract class AbstractFoo {
 
     }
+
+    static class BeanWithPrivateConstructor {
+
+        private final String name;
+
+        private BeanWithPrivateConstructor() {
+            this.name = "foo";
+        }
+    }
+
+    static class BeanWithoutNoArgConstructor {
+
+        private final String name;
+
+        BeanWithoutNoArgConstructor(String name) {
+            this.name = name;
+        }
+    }
+
+    static class BeanWithFailingConstructor {
+
+        static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+        BeanWithFailingConstructor() {
+            INVOCATIONS.incrementAndGet();
+            throw new IllegalStateException("failing constructor");
+        }
+    }
+
+    static class BeanWithConstructorThrowingAnError {
+
+        BeanWithConstructorThrowingAnError() {
+            throw new AssertionError("failing constructor");
+        }
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Field;
+
+import org.jeasy.random.api.ExclusionPolicy;
+import org.jeasy.random.api.RandomizerContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.jeasy.random.beans.Human;
+import org.jeasy.random.beans.Person;
+
+@ExtendWith(MockitoExtension.class)
+class PopulationPlanTest {
+
+    @Mock
+    private RandomizerContext context;
+
+    @Test
+    void planShouldContainDeclaredFieldsFollowedByInheritedFields() throws NoSuchFieldException {
+        // Given
+        ExclusionPolicy exclusionPolicy = mock(ExclusionPolicy.class);
+
+        // When
+        PopulationPlan plan = PopulationPlan.of(Person.class, exclusionPolicy, context);
+
+        // Then
+        Field email = Person.class.getDeclaredField("email");
+        Field name = Human.class.getDeclaredField("name");
+        assertThat(plan.getFields()).contains(email, name);
+        assertThat(plan.getFields().indexOf(email)).isLessThan(plan.getFields().indexOf(name));
+        assertThat(plan.isExclusionsApplied()).isFalse();
+    }
+
+    @Test
+    void defaultExclusionPolicyShouldBeAppliedWhenBuildingThePlan() throws NoSuchFieldException {
+        // Given
+        Field staticField = Human.class.getDeclaredField("SERIAL_VERSION_UID");
+
+        // When
+        PopulationPlan plan = PopulationPlan.of(Human.class, new DefaultExclusionPolicy(), new RandomizationContext(Human.class, new EasyRandomParameters()));
+
+        // Then
+        assertThat(plan.getFields()).doesNotContain(staticField);
+        assertThat(plan.isExclusionsApplied()).isTrue();
+    }
+
+    @Test
+    void enclosingInstanceFieldOfInnerClassesShouldNotBePartOfThePlan() {
+        // When
+        PopulationPlan plan = PopulationPlan.of(Inner.class, mock(ExclusionPolicy.class), context);
+
+        // Then
+        assertThat(plan.getFields()).extracting(Field::getName).containsExactly("value");
+    }
+
+    class Inner {
+        private String value;
+    }
+}
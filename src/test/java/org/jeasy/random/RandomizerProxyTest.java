@@ -63,6 +63,18 @@ class RandomizerProxyTest {
         assertThat(randomizer.getRandomValue()).isInstanceOf(String.class).isEqualTo(FOO);
     }
 
+    @Test
+    void theRandomizerProxyShouldGenerateValuesInBatchWithTheSupplier() {
+        // Given
+        MySupplier supplier = new MySupplier();
+
+        // When
+        Randomizer<String> randomizer = ReflectionUtils.asRandomizer(supplier);
+
+        // Then
+        assertThat(randomizer.getRandomValues(3)).containsExactly(FOO, FOO, FOO);
+    }
+
     private static class MySupplier implements Supplier<String> {
 
         @Override
@@ -25,6 +25,8 @@ package org.jeasy.random;
 
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
@@ -84,4 +86,48 @@ class RegistriesRandomizerProviderTest {
         // Then
         assertThat(actual).isEqualTo(randomizer);
     }
-}
\ No newline at end of file
+
+    @Test
+    void resolvedRandomizersShouldBeCached() throws NoSuchFieldException {
+        // Given
+        Field field = Foo.class.getDeclaredField("bar");
+        when(randomizerRegistry.getRandomizer(field)).thenReturn(randomizer);
+
+        // When
+        randomizerProvider.getRandomizerByField(field, context);
+        Randomizer<?> actual = randomizerProvider.getRandomizerByField(field, context);
+
+        // Then
+        assertThat(actual).isEqualTo(randomizer);
+        verify(randomizerRegistry, times(1)).getRandomizer(field);
+    }
+
+    @Test
+    void absenceOfRandomizerShouldBeCached() {
+        // Given
+        Class<String> type = String.class;
+
+        // When
+        randomizerProvider.getRandomizerByType(type, context);
+        Randomizer<?> actual = randomizerProvider.getRandomizerByType(type, context);
+
+        // Then
+        assertThat(actual).isNull();
+        verify(randomizerRegistry, times(1)).getRandomizer(type);
+    }
+
+    @Test
+    void invalidatingTheCacheShouldResolveRandomizersAgain() {
+        // Given
+        Class<String> type = String.class;
+        randomizerProvider.getRandomizerByType(type, context);
+        when(randomizerRegistry.getRandomizer(type)).thenReturn(randomizer);
+
+        // When
+        randomizerProvider.invalidateCache();
+        Randomizer<?> actual = randomizerProvider.getRandomizerByType(type, context);
+
+        // Then
+        assertThat(actual).isEqualTo(randomizer);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jeasy.random.records.Circle;
+import org.jeasy.random.records.Drawing;
+import org.jeasy.random.records.Polygon;
+import org.jeasy.random.records.Shape;
+import org.jeasy.random.records.Square;
+import org.jeasy.random.records.Triangle;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SealedTypeResolutionTest {
+
+    @Test
+    void sealedInterfacesShouldBeResolvedToPermittedSubtypesWithoutScanning() {
+        // given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // when
+        List<Shape> shapes = easyRandom.objects(Shape.class, 50).collect(Collectors.toList());
+
+        // then
+        Set<Class<?>> shapeTypes = new HashSet<>();
+        for (Shape shape : shapes) {
+            shapeTypes.add(shape.getClass());
+            if (shape instanceof Circle circle) {
+                assertThat(circle.radius()).isNotNull();
+            } else if (shape instanceof Square square) {
+                assertThat(square.getSide()).isNotNull();
+            } else if (shape instanceof Triangle triangle) {
+                assertThat(triangle.base()).isNotNull();
+                assertThat(triangle.height()).isNotNull();
+            }
+        }
+        assertThat(shapeTypes).containsExactlyInAnyOrder(Circle.class, Square.class, Triangle.class);
+    }
+
+    @Test
+    void sealedFieldsShouldBeResolvedToPermittedSubtypes() {
+        // given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // when
+        Drawing drawing = easyRandom.nextObject(Drawing.class);
+
+        // then
+        assertThat(drawing.getShape()).isNotNull();
+        assertThat(drawing.getShapes()).isNotEmpty().doesNotContainNull();
+    }
+
+    @Test
+    void nestedSealedTypesShouldBeResolvedToTheirPermittedSubtypes() {
+        // given
+        EasyRandom easyRandom = new EasyRandom();
+
+        // when
+        Polygon polygon = easyRandom.nextObject(Polygon.class);
+
+        // then
+        assertThat(polygon).isInstanceOfAny(Square.class, Triangle.class);
+    }
+
+    @Test
+    void sealedTypeResolutionShouldBeDeterministicForTheSameSeed() {
+        // given
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(42L);
+
+        // when
+        List<Shape> shapes = new EasyRandom(parameters).objects(Shape.class, 10).collect(Collectors.toList());
+        List<Shape> otherShapes = new EasyRandom(parameters).objects(Shape.class, 10).collect(Collectors.toList());
+
+        // then
+        assertThat(shapes).extracting(Object::getClass).isEqualTo(otherShapes.stream().map(Object::getClass).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.beans.BeanWithDefaultFieldValues;
+import org.jeasy.random.beans.Person;
+import org.jeasy.random.beans.Street;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.jeasy.random.FieldPredicates.inClass;
+import static org.jeasy.random.FieldPredicates.named;
+
+class CompiledPopulatorsParameterTests {
+
+    @Test
+    void compiledPopulatorsShouldGenerateTheSameObjectsAsTheDefaultPopulation() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(42);
+        EasyRandomParameters compiledParameters = new EasyRandomParameters().seed(42).compiledPopulators(true);
+
+        // When
+        List<Person> persons = new EasyRandom(parameters).objects(Person.class, 10).collect(Collectors.toList());
+        List<Person> compiledPersons = new EasyRandom(compiledParameters).objects(Person.class, 10).collect(Collectors.toList());
+
+        // Then
+        assertThat(compiledPersons).usingRecursiveFieldByFieldElementComparator().isEqualTo(persons);
+    }
+
+    @Test
+    void compiledPopulatorsShouldUseCustomRandomizers() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .compiledPopulators(true)
+                .randomize(named("name").and(inClass(Street.class)), () -> "main street")
+                .randomize(named("number").and(inClass(Street.class)), () -> 42);
+
+        // When
+        Street street = new EasyRandom(parameters).nextObject(Street.class);
+
+        // Then
+        assertThat(street.getName()).isEqualTo("main street");
+        assertThat(street.getNumber()).isEqualTo(42);
+    }
+
+    @Test
+    void compiledPopulatorsShouldUseCustomRandomizersRegisteredAfterTheirCompilation() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().compiledPopulators(true);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+        easyRandom.nextObject(Street.class);
+
+        // When
+        parameters.randomize(named("name").and(inClass(Street.class)), () -> "main street");
+        Street street = easyRandom.nextObject(Street.class);
+
+        // Then
+        assertThat(street.getName()).isEqualTo("main street");
+    }
+
+    @Test
+    void compiledPopulatorsShouldNotOverrideDefaultInitialization() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().compiledPopulators(true);
+
+        // When
+        BeanWithDefaultFieldValues bean = new EasyRandom(parameters).nextObject(BeanWithDefaultFieldValues.class);
+
+        // Then
+        assertThat(bean.getDefaultNonNullValue()).isEqualTo("default");
+        assertThat(bean.getDefaultNonNullValueSetByConstructor()).isEqualTo("defaultSetByConstructor");
+    }
+
+    @Test
+    void compiledPopulatorsShouldBypassSettersIfRequested() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().compiledPopulators(true).bypassSetters(true);
+
+        // When
+        BeanWithFailingSetter bean = new EasyRandom(parameters).nextObject(BeanWithFailingSetter.class);
+
+        // Then
+        assertThat(bean.name).isNotNull();
+    }
+
+    @Test
+    void whenASetterFails_thenCompiledPopulatorsShouldThrowAnObjectCreationException() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().compiledPopulators(true);
+
+        // When/Then
+        assertThatThrownBy(() -> new EasyRandom(parameters).nextObject(BeanWithFailingSetter.class))
+                .isInstanceOf(ObjectCreationException.class)
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    public static class BeanWithFailingSetter {
+
+        private String name;
+
+        public void setName(String name) {
+            throw new IllegalStateException("failing setter");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RandomGeneratorAlgorithmParameterTests {
+
+    @Test
+    void generatedObjectsShouldBeTheSameForTheSameAlgorithmAndSeed() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .randomGeneratorAlgorithm("L64X128MixRandom")
+                .seed(42);
+
+        // When
+        Person person1 = new EasyRandom(parameters).nextObject(Person.class);
+        Person person2 = new EasyRandom(parameters).nextObject(Person.class);
+
+        // Then
+        assertThat(person1).usingRecursiveComparison().isEqualTo(person2);
+    }
+
+    @Test
+    void generatedObjectsShouldDependOnTheAlgorithm() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().randomGeneratorAlgorithm("L64X128MixRandom");
+        EasyRandomParameters otherParameters = new EasyRandomParameters().randomGeneratorAlgorithm("Xoroshiro128PlusPlus");
+
+        // When
+        String string = new EasyRandom(parameters).nextObject(String.class);
+        String otherString = new EasyRandom(otherParameters).nextObject(String.class);
+
+        // Then
+        assertThat(string).isNotEqualTo(otherString);
+    }
+
+    @Test
+    void whenTheAlgorithmIsNotAvailable_thenShouldThrowAnIllegalArgumentException() {
+        assertThatThrownBy(() -> new EasyRandomParameters().randomGeneratorAlgorithm("foo"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
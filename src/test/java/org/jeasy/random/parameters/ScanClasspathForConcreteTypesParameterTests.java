@@ -27,14 +27,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.BDDAssertions.then;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Date;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.jeasy.random.EasyRandom;
 import org.jeasy.random.EasyRandomParameters;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.jeasy.random.ObjectCreationException;
+import org.jeasy.random.processor.SubTypeIndexProcessor;
 import org.jeasy.random.beans.Ape;
 import org.jeasy.random.beans.Bar;
 import org.jeasy.random.beans.ClassUsingAbstractEnum;
@@ -69,6 +76,77 @@ class ScanClasspathForConcreteTypesParameterTests {
         assertThat(mamals.getMamalImpl()).isOfAnyClassIn(Human.class, Ape.class, Person.class, SocialPerson.class);
     }
 
+    @Test
+    void whenScanPackagesAreSpecified_thenShouldPopulateInterfacesWithConcreteTypesOfThesePackages() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .scanPackages("org.jeasy.random.beans");
+        easyRandom = new EasyRandom(parameters);
+
+        Mamals mamals = easyRandom.nextObject(Mamals.class);
+
+        assertThat(mamals.getMamal()).isOfAnyClassIn(Human.class, Ape.class, Person.class, SocialPerson.class);
+    }
+
+    @Test
+    void whenScanPackagesAreAddedToACopy_thenTheOriginalParametersShouldNotBeModified() {
+        EasyRandomParameters parameters = new EasyRandomParameters().scanPackages("org.jeasy.random.beans");
+
+        EasyRandomParameters copy = parameters.copy().scanPackages("com.acme");
+
+        assertThat(parameters.getScanPackages()).containsExactly("org.jeasy.random.beans");
+        assertThat(copy.getScanPackages()).containsExactly("org.jeasy.random.beans", "com.acme");
+        assertThatThrownBy(() -> parameters.getScanPackages().add("com.acme")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void whenScanPackagesDoNotContainConcreteTypes_thenShouldFailToPopulateInterfaces() {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .scanPackages("org.jeasy.random.randomizers.text");
+        easyRandom = new EasyRandom(parameters);
+
+        assertThatThrownBy(() -> easyRandom.nextObject(Mamals.class)).isInstanceOf(ObjectCreationException.class);
+    }
+
+    @Test
+    void whenSubTypeIndexDirectoryIsSpecified_thenTheSubTypeIndexShouldBePersisted(@TempDir Path directory) throws Exception {
+        EasyRandomParameters parameters = new EasyRandomParameters()
+                .scanClasspathForConcreteTypes(true)
+                .scanPackages("org.jeasy.random.beans", "org.jeasy.random.parameters")
+                .subTypeIndexDirectory(directory);
+        easyRandom = new EasyRandom(parameters);
+
+        Mamals mamals = easyRandom.nextObject(Mamals.class);
+
+        assertThat(mamals.getMamal()).isOfAnyClassIn(Human.class, Ape.class, Person.class, SocialPerson.class);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files).hasSize(1).allMatch(file -> file.getFileName().toString().endsWith(".idx"));
+        }
+    }
+
+    @Test
+    void whenAnUnrelatedCompiledSubTypeIndexIsInTheClasspath_thenScanPackagesShouldStillBeScanned(@TempDir Path directory) throws Exception {
+        Path index = directory.resolve(SubTypeIndexProcessor.SUBTYPE_INDEX_RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "#packages=com.acme\ncom.acme.Animal=com.acme.Dog\n");
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, contextClassLoader)) {
+            thread.setContextClassLoader(classLoader);
+            EasyRandomParameters parameters = new EasyRandomParameters()
+                    .scanClasspathForConcreteTypes(true)
+                    .scanPackages("org.jeasy.random.beans", "com.acme");
+            easyRandom = new EasyRandom(parameters);
+
+            Mamals mamals = easyRandom.nextObject(Mamals.class);
+
+            assertThat(mamals.getMamal()).isOfAnyClassIn(Human.class, Ape.class, Person.class, SocialPerson.class);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
     @Test
     void whenScanClasspathForConcreteTypesIsEnabled_thenShouldPopulateConcreteTypesForFieldsWithGenericParameters() {
         EasyRandomParameters parameters = new EasyRandomParameters().scanClasspathForConcreteTypes(true);
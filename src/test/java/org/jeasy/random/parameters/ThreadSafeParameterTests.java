@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.parameters;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.beans.Person;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThreadSafeParameterTests {
+
+    private static final int THREADS = 8;
+
+    private static final int OBJECTS_PER_THREAD = 100;
+
+    @Test
+    void whenThreadSafeIsActivated_thenTheSameInstanceShouldBeUsableFromSeveralThreads() throws Exception {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().threadSafe(true);
+        EasyRandom easyRandom = new EasyRandom(parameters);
+        Callable<List<Person>> task = () -> {
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < OBJECTS_PER_THREAD; i++) {
+                persons.add(easyRandom.nextObject(Person.class));
+            }
+            return persons;
+        };
+
+        // When
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Person>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executorService.submit(task));
+        }
+        List<Person> persons = new ArrayList<>();
+        for (Future<List<Person>> future : futures) {
+            persons.addAll(future.get());
+        }
+        executorService.shutdown();
+
+        // Then
+        assertThat(persons).hasSize(THREADS * OBJECTS_PER_THREAD);
+        assertThat(persons).allSatisfy(person -> {
+            assertThat(person.getName()).isNotNull();
+            assertThat(person.getAddress()).isNotNull();
+        });
+    }
+
+    @Test
+    void whenThreadSafeIsActivated_thenGeneratedObjectsShouldBeReproducibleInASingleThread() {
+        // Given
+        EasyRandomParameters parameters = new EasyRandomParameters().threadSafe(true);
+
+        // When
+        Person person1 = new EasyRandom(parameters).nextObject(Person.class);
+        Person person2 = new EasyRandom(parameters).nextObject(Person.class);
+
+        // Then
+        assertThat(person1).usingRecursiveComparison().isEqualTo(person2);
+    }
+}
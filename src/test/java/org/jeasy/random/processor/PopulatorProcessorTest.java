@@ -0,0 +1,307 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import org.jeasy.random.EasyRandom;
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.Populator;
+import org.jeasy.random.api.PopulatorContext;
+import org.jeasy.random.api.Randomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopulatorProcessorTest {
+
+    private static final String PERSON = "package foo;\n"
+            + "import org.jeasy.random.annotation.Exclude;\n"
+            + "import org.jeasy.random.annotation.GenerateRandom;\n"
+            + "@GenerateRandom\n"
+            + "public class Person {\n"
+            + "    private final String id = \"id\";\n"
+            + "    private String name;\n"
+            + "    int age;\n"
+            + "    private java.util.List<String> nicknames;\n"
+            + "    java.util.Map<String, Integer> scores;\n"
+            + "    java.util.Optional<Address> address;\n"
+            + "    Gender gender;\n"
+            + "    long[] codes;\n"
+            + "    @Exclude String excluded;\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(String name) { this.name = \"set:\" + name; }\n"
+            + "    public java.util.List<String> getNicknames() { return nicknames; }\n"
+            + "    public void setNicknames(java.util.List<String> nicknames) { this.nicknames = nicknames; }\n"
+            + "    public enum Gender { MALE, FEMALE }\n"
+            + "    @GenerateRandom\n"
+            + "    public static class Address {\n"
+            + "        public String city;\n"
+            + "    }\n"
+            + "}\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void populatorsShouldBeGeneratedAndRegisteredAsServices() throws Exception {
+        // Given
+        Path classes = compile("Person.java", PERSON);
+
+        // Then
+        assertThat(Files.readAllLines(classes.resolve("META-INF/services/org.jeasy.random.api.Populator")))
+                .containsExactly("foo.Person_Address_Populator", "foo.Person_Populator");
+        assertThat(Files.readString(classes.resolve(PopulatorProcessor.REFLECT_CONFIG_RESOURCE)))
+                .contains("\"name\": \"foo.Person\"", "\"name\": \"foo.Person$Address\"");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> personType = classLoader.loadClass("foo.Person");
+            Populator<Object> populator = getPopulator(classLoader, personType);
+            assertThat(populator.newInstance()).isInstanceOf(personType);
+        }
+    }
+
+    @Test
+    void generatedPopulatorsShouldGenerateValuesFromTheTypesOfFields() throws Exception {
+        // Given
+        Path classes = compile("Person.java", PERSON);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> personType = classLoader.loadClass("foo.Person");
+            Class<?> addressType = classLoader.loadClass("foo.Person$Address");
+            Populator<Object> populator = getPopulator(classLoader, personType);
+            Object person = populator.newInstance();
+            RecordingContext context = new RecordingContext();
+
+            // When
+            populator.populate(person, context);
+
+            // Then
+            assertThat(context.calls).containsExactly(
+                    "populateField foo.Person id",
+                    "nextValue name class java.lang.String",
+                    "nextValue age int",
+                    "nextCollection nicknames interface java.util.List class java.lang.String",
+                    "nextMap scores interface java.util.Map class java.lang.String class java.lang.Integer",
+                    "nextOptional address " + addressType,
+                    "nextValue gender class foo.Person$Gender",
+                    "nextValue codes class [J");
+            assertThat(getField(person, "name")).isEqualTo("set:foo");
+            assertThat(getField(person, "age")).isEqualTo(42);
+            assertThat(getField(person, "nicknames")).isEqualTo(List.of("foo"));
+            assertThat(getField(person, "scores")).isEqualTo(Map.of());
+            assertThat(getField(person, "address")).isEqualTo(Optional.empty());
+            assertThat(getField(person, "gender")).hasToString("FEMALE");
+            assertThat(getField(person, "codes")).isEqualTo(new long[]{42});
+            assertThat(getField(person, "excluded")).isNull();
+        }
+    }
+
+    @Test
+    void generatedPopulatorsShouldBeUsedToPopulateObjects() throws Exception {
+        // Given
+        Path classes = compile("Person.java", PERSON);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            Class<?> personType = classLoader.loadClass("foo.Person");
+
+            // When
+            Object person = new EasyRandom().nextObject(personType);
+
+            // Then
+            assertThat((String) getField(person, "name")).startsWith("set:");
+            assertThat(getField(person, "age")).isNotEqualTo(0);
+            assertThat((List<?>) getField(person, "nicknames")).isNotEmpty();
+            assertThat((Map<?, ?>) getField(person, "scores")).isNotEmpty();
+            assertThat((Optional<?>) getField(person, "address")).isPresent();
+            assertThat(getField(person, "gender")).isNotNull();
+            assertThat((long[]) getField(person, "codes")).isNotEmpty();
+            assertThat(getField(person, "excluded")).isNull();
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    void generatedPopulatorsShouldPopulateObjectsLikeReflection() throws Exception {
+        // Given
+        Path classes = compile("Person.java", PERSON);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            Class<?> personType = classLoader.loadClass("foo.Person");
+
+            // When
+            Object generated = new EasyRandom(new EasyRandomParameters().seed(42)).nextObject(personType);
+            // field predicates are not supported by generated populators
+            Object reflected = new EasyRandom(new EasyRandomParameters().seed(42).excludeField(field -> false)).nextObject(personType);
+
+            // Then
+            assertThat(generated).usingRecursiveComparison().isEqualTo(reflected);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    void generatedPopulatorsShouldBypassSettersIfRequested() throws Exception {
+        // Given
+        Path classes = compile("Person.java", PERSON);
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            Class<?> personType = classLoader.loadClass("foo.Person");
+
+            // When
+            Object person = new EasyRandom(new EasyRandomParameters().bypassSetters(true)).nextObject(personType);
+
+            // Then
+            assertThat((String) getField(person, "name")).isNotNull().doesNotStartWith("set:");
+            assertThat((List<?>) getField(person, "nicknames")).isNotNull();
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    void whenAnAbstractClassIsAnnotated_thenCompilationShouldFail() throws Exception {
+        // Given
+        Path sources = Files.createDirectories(directory.resolve("src/foo"));
+        Path source = Files.writeString(sources.resolve("Animal.java"),
+                "package foo; @org.jeasy.random.annotation.GenerateRandom public abstract class Animal {}");
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+        // When
+        int result = ToolProvider.getSystemJavaCompiler().run(null, null, errors,
+                "-processor", PopulatorProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", Files.createDirectories(directory.resolve("classes")).toString(),
+                source.toString());
+
+        // Then
+        assertThat(result).isNotZero();
+        assertThat(errors.toString()).contains("Unable to generate a populator for foo.Animal");
+    }
+
+    private Path compile(final String fileName, final String content) throws Exception {
+        Path sources = Files.createDirectories(directory.resolve("src/foo"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path source = Files.writeString(sources.resolve(fileName), content);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        int result = compiler.run(null, null, null,
+                "-processor", PopulatorProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-s", Files.createDirectories(directory.resolve("generated")).toString(),
+                "-d", classes.toString(),
+                source.toString());
+        assertThat(result).isZero();
+        return classes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Populator<Object> getPopulator(final ClassLoader classLoader, final Class<?> type) {
+        for (Populator<?> populator : ServiceLoader.load(Populator.class, classLoader)) {
+            if (populator.getType() == type) {
+                return (Populator<Object>) populator;
+            }
+        }
+        throw new AssertionError("No populator found for " + type);
+    }
+
+    private static Object getField(final Object bean, final String name) throws Exception {
+        Field field = bean.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(bean);
+    }
+
+    /*
+     * Record the values requested by a populator, and return fixed values.
+     */
+    private static class RecordingContext implements PopulatorContext {
+
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public boolean isOverrideDefaultInitialization() {
+            return false;
+        }
+
+        @Override
+        public boolean isBypassSetters() {
+            return false;
+        }
+
+        @Override
+        public Randomizer<?> getRandomizer(final Class<?> type) {
+            return null;
+        }
+
+        @Override
+        public Object nextValue(final Object bean, final String fieldName, final Class<?> type) {
+            calls.add("nextValue " + fieldName + " " + type);
+            if (type.isEnum()) {
+                return type.getEnumConstants()[1];
+            }
+            if (type == long[].class) {
+                return new long[]{42};
+            }
+            return type == int.class ? (Object) 42 : "foo";
+        }
+
+        @Override
+        public Object nextCollection(final Object bean, final String fieldName, final Class<?> type, final Class<?> elementType) {
+            calls.add("nextCollection " + fieldName + " " + type + " " + elementType);
+            return List.of("foo");
+        }
+
+        @Override
+        public Object nextMap(final Object bean, final String fieldName, final Class<?> type, final Class<?> keyType, final Class<?> valueType) {
+            calls.add("nextMap " + fieldName + " " + type + " " + keyType + " " + valueType);
+            return Map.of();
+        }
+
+        @Override
+        public Object nextOptional(final Object bean, final String fieldName, final Class<?> elementType) {
+            calls.add("nextOptional " + fieldName + " " + elementType);
+            return Optional.empty();
+        }
+
+        @Override
+        public void populateField(final Object bean, final String declaringClassName, final String fieldName) {
+            calls.add("populateField " + declaringClassName + " " + fieldName);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubTypeIndexProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void publicConcreteSubTypesShouldBeIndexed() throws Exception {
+        // Given
+        Path sources = Files.createDirectories(directory.resolve("src/foo"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path animal = Files.writeString(sources.resolve("Animal.java"), "package foo; public interface Animal {}");
+        Path mammal = Files.writeString(sources.resolve("Mammal.java"), "package foo; public abstract class Mammal implements Animal {}");
+        Path dog = Files.writeString(sources.resolve("Dog.java"), "package foo; public class Dog extends Mammal { public static class Puppy extends Dog {} }");
+        Path cat = Files.writeString(sources.resolve("Cat.java"), "package foo; class Cat extends Mammal {}");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        // When
+        int result = compiler.run(null, null, null,
+                "-processor", SubTypeIndexProcessor.class.getName(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classes.toString(),
+                animal.toString(), mammal.toString(), dog.toString(), cat.toString());
+
+        // Then
+        assertThat(result).isZero();
+        List<String> index = Files.readAllLines(classes.resolve(SubTypeIndexProcessor.SUBTYPE_INDEX_RESOURCE));
+        assertThat(index).containsExactly(
+                "#packages=foo",
+                "foo.Animal=foo.Dog,foo.Dog$Puppy",
+                "foo.Dog=foo.Dog$Puppy",
+                "foo.Mammal=foo.Dog,foo.Dog$Puppy");
+    }
+
+    @Test
+    void previousIndexShouldBeUpdatedWhenOnlySomeClassesAreCompiled() throws Exception {
+        // Given
+        Path sources = Files.createDirectories(directory.resolve("src/foo"));
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path animal = Files.writeString(sources.resolve("Animal.java"), "package foo; public interface Animal {}");
+        Path dog = Files.writeString(sources.resolve("Dog.java"), "package foo; public class Dog implements Animal {}");
+        Path cat = Files.writeString(sources.resolve("Cat.java"), "package foo; public class Cat implements Animal {}");
+        Path bird = Files.writeString(directory.resolve("src/Bird.java"), "package bar; public class Bird implements foo.Animal {}");
+        assertThat(compile(classes, animal, dog, cat)).isZero();
+
+        // When
+        Files.writeString(cat, "package foo; public class Cat {}");
+        int result = compile(classes, cat, bird);
+
+        // Then
+        assertThat(result).isZero();
+        List<String> index = Files.readAllLines(classes.resolve(SubTypeIndexProcessor.SUBTYPE_INDEX_RESOURCE));
+        assertThat(index).containsExactly(
+                "#packages=bar,foo",
+                "foo.Animal=bar.Bird,foo.Dog");
+    }
+
+    private static int compile(Path classes, Path... sources) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "-processor", SubTypeIndexProcessor.class.getName(),
+                "-classpath", classes + File.pathSeparator + System.getProperty("java.class.path"),
+                "-d", classes.toString()));
+        for (Path source : sources) {
+            arguments.add(source.toString());
+        }
+        return ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0]));
+    }
+}
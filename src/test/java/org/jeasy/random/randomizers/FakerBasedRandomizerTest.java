@@ -0,0 +1,167 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+class FakerBasedRandomizerTest {
+
+    private static final long SEED = 123L;
+
+    @Test
+    void randomizersOfTheSameLocaleShouldShareTheSameFaker() {
+        assertThat(new SharedFakerRandomizer(SEED, Locale.ENGLISH).getRandomValue())
+                .isSameAs(new SharedFakerRandomizer(SEED + 1, Locale.ENGLISH).getRandomValue())
+                .isNotSameAs(new SharedFakerRandomizer(SEED, Locale.FRANCE).getRandomValue());
+    }
+
+    @Test
+    void fakersOfRandomizersOfTheSameLocaleShouldShareTheSameDictionaries() {
+        assertThat(new CityRandomizer(SEED).faker).isNotSameAs(new FullNameRandomizer(SEED).faker);
+        assertThat(new CityRandomizer(SEED).faker.fakeValuesService()).isSameAs(new FullNameRandomizer(SEED + 1).faker.fakeValuesService());
+        assertThat(new CityRandomizer(SEED, Locale.FRANCE).faker.fakeValuesService()).isNotSameAs(new CityRandomizer(SEED).faker.fakeValuesService());
+    }
+
+    @Test
+    void interleavedRandomizersShouldGenerateTheSameValuesAsStandaloneRandomizers() {
+        // given
+        CityRandomizer cityRandomizer = new CityRandomizer(SEED);
+        RegularExpressionRandomizer regularExpressionRandomizer = new RegularExpressionRandomizer("[A-Z]{3}\\d{4}", SEED);
+        List<String> expectedCities = generate(new CityRandomizer(SEED), 10);
+        List<String> expectedCodes = generate(new RegularExpressionRandomizer("[A-Z]{3}\\d{4}", SEED), 10);
+
+        // when
+        List<String> cities = new ArrayList<>();
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            cities.add(cityRandomizer.getRandomValue());
+            codes.add(regularExpressionRandomizer.getRandomValue());
+        }
+
+        // then
+        assertThat(cities).isEqualTo(expectedCities);
+        assertThat(codes).isEqualTo(expectedCodes);
+    }
+
+    @Test
+    void randomizersUsedConcurrentlyShouldGenerateTheSameValuesAsStandaloneRandomizers() throws Exception {
+        // given
+        List<String> expected = generate(new FullNameRandomizer(SEED), 100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Callable<List<String>> task = () -> generate(new FullNameRandomizer(SEED), 100);
+                results.add(executor.submit(task));
+            }
+
+            // then
+            for (Future<List<String>> result : results) {
+                assertThat(result.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void fakerShouldBeUsableOutsideOfGenerate() {
+        // given
+        FakerBasedRandomizer<String> randomizer = new FakerBasedRandomizer<>(SEED) {
+            @Override
+            public String getRandomValue() {
+                return faker.address().city();
+            }
+        };
+
+        // when
+        List<String> cities = generate(randomizer, 10);
+
+        // then
+        assertThat(cities).isEqualTo(generate(new CityRandomizer(SEED), 10));
+    }
+
+    @Test
+    void regularExpressionsOfTheFakerShouldBeGeneratedFromTheRandomOfTheRandomizer() {
+        // given
+        List<String> codes = generate(new CodeRandomizer(SEED), 10);
+
+        // when
+        List<String> otherCodes = generate(new CodeRandomizer(SEED), 10);
+
+        // then
+        assertThat(codes).isEqualTo(otherCodes).allMatch(code -> code.matches("[A-Z]{3}\\d{4}"));
+    }
+
+    @Test
+    void sharedFakerShouldNotBeUsedOutsideOfGenerate() {
+        Faker sharedFaker = new SharedFakerRandomizer(SEED, Locale.ENGLISH).getRandomValue();
+
+        assertThatThrownBy(() -> sharedFaker.address().city()).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static class SharedFakerRandomizer extends FakerBasedRandomizer<Faker> {
+
+        SharedFakerRandomizer(long seed, Locale locale) {
+            super(seed, locale);
+        }
+
+        @Override
+        public Faker getRandomValue() {
+            return generate(sharedFaker -> sharedFaker);
+        }
+    }
+
+    private static class CodeRandomizer extends FakerBasedRandomizer<String> {
+
+        CodeRandomizer(long seed) {
+            super(seed);
+        }
+
+        @Override
+        public String getRandomValue() {
+            return faker.regexify("[A-Z]{3}\\d{4}");
+        }
+    }
+
+    private static List<String> generate(FakerBasedRandomizer<String> randomizer, int count) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            values.add(randomizer.getRandomValue());
+        }
+        return values;
+    }
+}
@@ -88,7 +88,7 @@ class RandomizersTest extends AbstractRandomizerTest<FakerBasedRandomizer<?>>{
                 { new MacAddressRandomizer(SEED), "b3:f4:49:94:c9:e8" },
                 { new ParagraphRandomizer(SEED), "Totam assumenda eius autem similique. Aut voluptatem enim praesentium. Suscipit cupiditate doloribus debitis dolor. Cumque sapiente occaecati. Quos maiores quae." },
                 { new PhoneNumberRandomizer(SEED), "(352) 773-9574 x7539" },
-                { new RegularExpressionRandomizer("\\d+[A-Z]{5}", SEED), "8UYSMT" },
+                { new RegularExpressionRandomizer("\\d+[A-Z]{5}", SEED), "06957475396UZNRC" },
                 { new SentenceRandomizer(SEED), "Dolor totam assumenda eius autem." },
                 { new StateRandomizer(SEED), "North Carolina" },
                 { new StreetRandomizer(SEED), "Hegmann Locks" },
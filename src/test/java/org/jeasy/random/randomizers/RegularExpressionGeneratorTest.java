@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RegularExpressionGeneratorTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "abc",
+            "\\d+[A-Z]{5}",
+            "[a-z]{2,4}\\.[A-Z]?",
+            "[^a-z0-9]{3}",
+            "[a-c[x-z]]{4}",
+            "[\\w-]+@[a-z]+\\.(com|org|net)",
+            "(?:ab|cd)*ef",
+            "(?<code>[A-F]{2})-x{0,3}",
+            "(?i)[A-Z]{3}",
+            "\\D\\W\\S\\s",
+            "a.{3}b",
+            "\\Q.*+\\E\\t",
+            "\\x41\\u0042\\0103",
+            "[0-9]{1,}?x*+",
+            "\\bword\\b"
+    })
+    void generatedValuesShouldMatchTheRegularExpression(String regularExpression) {
+        RegularExpressionGenerator generator = RegularExpressionGenerator.compile(regularExpression);
+        Random random = new Random(123L);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.generate(random::nextInt)).matches(regularExpression);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(a)\\1",
+            "a(?=b)",
+            "a(?!b)",
+            "(?<=a)b",
+            "[a-z&&[^aeiou]]",
+            "(ab",
+            "ab)",
+            "[ab",
+            "*a",
+            "a{2,1}",
+            "[z-a]",
+            "\\p{Alpha}"
+    })
+    void unsupportedOrInvalidRegularExpressionsShouldBeRejected(String regularExpression) {
+        assertThatThrownBy(() -> RegularExpressionGenerator.compile(regularExpression))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -23,8 +23,16 @@
  */
 package org.jeasy.random.randomizers;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+import org.jeasy.random.util.ScopedRandom;
 import org.junit.jupiter.api.Test;
 
 class RegularExpressionRandomizerTest {
@@ -61,4 +69,57 @@ class RegularExpressionRandomizerTest {
 
         then(actual).isEqualTo("A");
     }
+
+    @Test
+    void escapedBoundaryMatchersAreKept() {
+        //given
+        RegularExpressionRandomizer randomizer = new RegularExpressionRandomizer("\\^A\\$");
+
+        //when
+        String actual = randomizer.getRandomValue();
+
+        then(actual).isEqualTo("^A$");
+    }
+
+    @Test
+    void valuesShouldBeTheSameForTheSameSeed() {
+        //given
+        String regularExpression = "^[A-Z]{2}\\d{2}[A-Z0-9]{4}$";
+        RegularExpressionRandomizer randomizer = new RegularExpressionRandomizer(regularExpression, 123L);
+        RegularExpressionRandomizer otherRandomizer = new RegularExpressionRandomizer(regularExpression, 123L);
+
+        //when
+        List<String> values = Stream.generate(randomizer::getRandomValue).limit(10).collect(toList());
+        List<String> otherValues = Stream.generate(otherRandomizer::getRandomValue).limit(10).collect(toList());
+
+        then(values).isEqualTo(otherValues).allMatch(value -> value.matches(regularExpression));
+    }
+
+    @Test
+    void valuesShouldBeDrawnFromTheBoundRandomGenerator() {
+        //given
+        RegularExpressionRandomizer randomizer = new RegularExpressionRandomizer("[a-z]{5}\\d{3}", 123L);
+        RandomGenerator previous = ScopedRandom.bind(new Random(42L));
+        String first;
+        try {
+            first = randomizer.getRandomValue();
+        } finally {
+            ScopedRandom.restore(previous);
+        }
+        previous = ScopedRandom.bind(new Random(42L));
+        String second;
+        try {
+            second = randomizer.getRandomValue();
+        } finally {
+            ScopedRandom.restore(previous);
+        }
+
+        then(first).isEqualTo(second).matches("[a-z]{5}\\d{3}");
+    }
+
+    @Test
+    void unsupportedRegularExpressionsShouldBeRejectedWhenTheRandomizerIsCreated() {
+        thenThrownBy(() -> new RegularExpressionRandomizer("(a)\\1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.misc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+import org.jeasy.random.randomizers.CityRandomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+
+class PooledRandomizerTest {
+
+    private static final long SEED = 123L;
+
+    @Test
+    void generatedValuesShouldBeTakenFromThePool() {
+        // Given
+        IntegerRandomizer delegate = new IntegerRandomizer(SEED);
+        IntegerRandomizer sameSeedDelegate = new IntegerRandomizer(SEED);
+        Set<Integer> pool = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            pool.add(sameSeedDelegate.getRandomValue());
+        }
+        PooledRandomizer<Integer> randomizer = new PooledRandomizer<>(delegate, 3, SEED);
+
+        // When/Then
+        for (int i = 0; i < 100; i++) {
+            assertThat(randomizer.getRandomValue()).isIn(pool);
+        }
+    }
+
+    @Test
+    void shouldGenerateTheSameValuesForTheSameSeed() {
+        // Given
+        PooledRandomizer<String> randomizer = new PooledRandomizer<>(new CityRandomizer(SEED), 10, SEED);
+        PooledRandomizer<String> sameSeedRandomizer = new PooledRandomizer<>(new CityRandomizer(SEED), 10, SEED);
+
+        // When/Then
+        for (int i = 0; i < 20; i++) {
+            assertThat(randomizer.getRandomValue()).isEqualTo(sameSeedRandomizer.getRandomValue());
+        }
+    }
+
+    @Test
+    void poolGeneratedWithAnExecutorShouldContainTheSameValues() {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PooledRandomizer<String> randomizer = new PooledRandomizer<>(new CityRandomizer(SEED), 10, SEED, executor);
+            PooledRandomizer<String> sameSeedRandomizer = new PooledRandomizer<>(new CityRandomizer(SEED), 10, SEED);
+
+            // When/Then
+            for (int i = 0; i < 20; i++) {
+                assertThat(randomizer.getRandomValue()).isEqualTo(sameSeedRandomizer.getRandomValue());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void poolSizeShouldBeBounded() {
+        IntegerRandomizer delegate = new IntegerRandomizer(SEED);
+
+        assertThatThrownBy(() -> new PooledRandomizer<>(delegate, 0, SEED)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PooledRandomizer<>(delegate, PooledRandomizer.MAX_POOL_SIZE + 1, SEED)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -25,9 +25,12 @@ package org.jeasy.random.randomizers.number;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Random;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -81,4 +84,39 @@ class NumberRandomizersTest extends AbstractRandomizerTest<Object> {
 
         then(actual).isEqualTo(expected);
     }
+
+    @Test
+    void filledByteArrayShouldBeTheSameAsTheOneGeneratedWithNextBytesForTheSameSeed() {
+        // given
+        byte[] expected = new byte[10];
+        new Random(SEED).nextBytes(expected);
+        byte[] actual = new byte[10];
+
+        // when
+        new ByteRandomizer(SEED).fill(actual);
+
+        then(actual).isEqualTo(expected);
+    }
+
+    static Object[][] generatePrimitiveArraysAndTheirRandomizers() {
+        return new Object[][] {
+                { new short[10], new ShortRandomizer(SEED), new ShortRandomizer(SEED) },
+                { new int[10], new IntegerRandomizer(SEED), new IntegerRandomizer(SEED) },
+                { new long[10], new LongRandomizer(SEED), new LongRandomizer(SEED) },
+                { new float[10], new FloatRandomizer(SEED), new FloatRandomizer(SEED) },
+                { new double[10], new DoubleRandomizer(SEED), new DoubleRandomizer(SEED) },
+                { new Integer[10], new IntegerRandomizer(SEED), new IntegerRandomizer(SEED) },
+        };
+    }
+
+    @ParameterizedTest
+    @MethodSource("generatePrimitiveArraysAndTheirRandomizers")
+    void filledArrayShouldContainTheSameValuesAsThoseGeneratedOneByOne(Object array, Randomizer<?> randomizer, Randomizer<?> sameSeedRandomizer) {
+        // when
+        randomizer.fill(array);
+
+        for (int i = 0; i < Array.getLength(array); i++) {
+            then(Array.get(array, i)).isEqualTo(sameSeedRandomizer.getRandomValue());
+        }
+    }
 }
@@ -79,6 +79,26 @@ class IntegerRangeRandomizerTest extends AbstractRangeRandomizerTest<Integer> {
         then(i).isEqualTo(7);
     }
 
+    @Test
+    void filledArrayShouldContainTheSameValuesAsThoseGeneratedOneByOne() {
+        // given
+        IntegerRangeRandomizer integerRangeRandomizer = new IntegerRangeRandomizer(min, max, SEED);
+        IntegerRangeRandomizer sameSeedRandomizer = new IntegerRangeRandomizer(min, max, SEED);
+        int[] values = new int[10];
+
+        // when
+        integerRangeRandomizer.fill(values);
+
+        for (int value : values) {
+            then(value).isEqualTo(sameSeedRandomizer.getRandomValue());
+        }
+    }
+
+    @Test
+    void whenArgumentIsNotAnArrayThenFillShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> randomizer.fill("foo")).isInstanceOf(IllegalArgumentException.class);
+    }
+
     /*
      * Integration tests
      */
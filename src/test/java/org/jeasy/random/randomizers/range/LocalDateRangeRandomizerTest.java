@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,6 +66,22 @@ class LocalDateRangeRandomizerTest extends AbstractRangeRandomizerTest<LocalDate
         assertThat(randomValue).isEqualTo(expected);
     }
 
+    @Test
+    void generatedLocalDatesShouldBeTheSameAsThoseGeneratedOneByOne() {
+        // Given
+        randomizer = new LocalDateRangeRandomizer(minDate, maxDate, SEED);
+        LocalDateRangeRandomizer sameSeedRandomizer = new LocalDateRangeRandomizer(minDate, maxDate, SEED);
+
+        // When
+        List<LocalDate> randomValues = randomizer.getRandomValues(10);
+
+        // Then
+        assertThat(randomValues).hasSize(10);
+        for (LocalDate randomValue : randomValues) {
+            assertThat(randomValue).isEqualTo(sameSeedRandomizer.getRandomValue());
+        }
+    }
+
     @Test
     void whenSpecifiedMinDateIsAfterMaxDate_thenShouldThrowIllegalArgumentException() {
         assertThatThrownBy(() -> new LocalDateRangeRandomizer(maxDate, minDate)).isInstanceOf(IllegalArgumentException.class);
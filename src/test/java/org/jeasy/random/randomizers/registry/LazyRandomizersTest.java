@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.randomizers.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jeasy.random.EasyRandomParameters;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.randomizers.number.IntegerRandomizer;
+import org.jeasy.random.randomizers.text.CharacterRandomizer;
+import org.jeasy.random.randomizers.time.DurationRandomizer;
+import org.junit.jupiter.api.Test;
+
+class LazyRandomizersTest {
+
+    private static final long SEED = 123L;
+
+    @Test
+    void randomizerShouldBeCreatedOnFirstRequestOnly() {
+        AtomicInteger creations = new AtomicInteger();
+        LazyRandomizers randomizers = new LazyRandomizers();
+        randomizers.register(Integer.class, () -> {
+            creations.incrementAndGet();
+            return new IntegerRandomizer(SEED);
+        });
+
+        assertThat(creations).hasValue(0);
+        Randomizer<?> randomizer = randomizers.get(Integer.class);
+        assertThat(randomizers.get(Integer.class)).isSameAs(randomizer);
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    void aliasShouldShareTheRandomizerOfTheTargetType() {
+        LazyRandomizers randomizers = new LazyRandomizers();
+        randomizers.register(Character.class, () -> new CharacterRandomizer(SEED));
+        randomizers.alias(char.class, Character.class);
+
+        assertThat(randomizers.get(char.class)).isSameAs(randomizers.get(Character.class));
+    }
+
+    @Test
+    void unregisteredTypeShouldHaveNoRandomizer() {
+        assertThat(new LazyRandomizers().get(Integer.class)).isNull();
+    }
+
+    @Test
+    void randomizersShouldBeCreatedWithTheParametersOfTheRegistryInitialization() {
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(SEED).stringLengthRange(3, 3);
+        InternalRandomizerRegistry internalRegistry = new InternalRandomizerRegistry();
+        internalRegistry.init(parameters);
+
+        parameters.stringLengthRange(10, 10);
+
+        assertThat((String) internalRegistry.getRandomizer(String.class).getRandomValue()).hasSize(3);
+    }
+
+    @Test
+    void builtInRegistriesShouldGenerateTheSameValuesAsEagerlyCreatedRandomizers() {
+        EasyRandomParameters parameters = new EasyRandomParameters().seed(SEED);
+        InternalRandomizerRegistry internalRegistry = new InternalRandomizerRegistry();
+        internalRegistry.init(parameters);
+        TimeRandomizerRegistry timeRegistry = new TimeRandomizerRegistry();
+        timeRegistry.init(parameters);
+
+        assertThat(internalRegistry.getRandomizer(int.class).getRandomValue()).isEqualTo(new IntegerRandomizer(SEED).getRandomValue());
+        assertThat(internalRegistry.getRandomizer(char.class)).isSameAs(internalRegistry.getRandomizer(Character.class));
+        assertThat(timeRegistry.getRandomizer(Duration.class).getRandomValue()).isEqualTo(new DurationRandomizer(SEED).getRandomValue());
+    }
+}
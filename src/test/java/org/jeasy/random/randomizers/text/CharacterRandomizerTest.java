@@ -55,6 +55,22 @@ class CharacterRandomizerTest extends AbstractRandomizerTest<Character> {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    void filledArrayShouldContainTheSameCharactersAsThoseGeneratedOneByOne() {
+        // Given
+        randomizer = new CharacterRandomizer(SEED);
+        CharacterRandomizer sameSeedRandomizer = new CharacterRandomizer(SEED);
+        char[] characters = new char[10];
+
+        // When
+        randomizer.fill(characters);
+
+        // Then
+        for (char character : characters) {
+            assertThat(character).isEqualTo(sameSeedRandomizer.getRandomValue());
+        }
+    }
+
     @Test
     void shouldGenerateOnlyAlphabeticLetters() {
         assertThat(randomizer.getRandomValue()).isBetween('A', 'z');
@@ -86,4 +86,53 @@ class StringRandomizerTest extends AbstractRandomizerTest<String> {
         assertThat(actual.length()).isBetween(minLength, maxLength);
     }
 
+    @Test
+    void generatedValueShouldContainTheSameCharactersAsThoseGeneratedOneByOne() {
+        // Given
+        randomizer = new StringRandomizer(100, 200, SEED);
+        CharacterRandomizer sameSeedRandomizer = new CharacterRandomizer(SEED);
+
+        // When
+        String actual = randomizer.getRandomValue();
+        String next = randomizer.getRandomValue();
+
+        // Then
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < actual.length() + next.length(); i++) {
+            expected.append(sameSeedRandomizer.getRandomChar());
+        }
+        assertThat(actual + next).isEqualTo(expected.toString());
+        assertThat(sameSeedRandomizer.isLatin1()).isTrue();
+    }
+
+    @Test
+    void latin1BufferShouldOnlyBeReusedUpToItsMaximumLength() {
+        byte[] buffer = StringRandomizer.getLatin1Buffer(StringRandomizer.MAX_LATIN1_BUFFER_LENGTH);
+        byte[] largeBuffer = StringRandomizer.getLatin1Buffer(StringRandomizer.MAX_LATIN1_BUFFER_LENGTH + 1);
+
+        assertThat(StringRandomizer.getLatin1Buffer(10)).isSameAs(buffer);
+        assertThat(largeBuffer).hasSize(StringRandomizer.MAX_LATIN1_BUFFER_LENGTH + 1);
+        assertThat(StringRandomizer.getLatin1Buffer(StringRandomizer.MAX_LATIN1_BUFFER_LENGTH + 1)).isNotSameAs(largeBuffer);
+        assertThat(StringRandomizer.getLatin1Buffer(10)).isSameAs(buffer);
+    }
+
+    @Test
+    void stringsLongerThanTheLatin1BufferShouldBeGenerated() {
+        // Given
+        int length = StringRandomizer.MAX_LATIN1_BUFFER_LENGTH * 2;
+        randomizer = new StringRandomizer(length, length + 1, SEED);
+        CharacterRandomizer sameSeedRandomizer = new CharacterRandomizer(SEED);
+
+        // When
+        String actual = randomizer.getRandomValue();
+
+        // Then
+        assertThat(actual).hasSize(length);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            expected.append(sameSeedRandomizer.getRandomChar());
+        }
+        assertThat(actual).isEqualTo(expected.toString());
+    }
+
 }
@@ -23,10 +23,14 @@
  */
 package org.jeasy.random.util;
 
+import static org.jeasy.random.util.CharacterUtils.collectPrintableCharactersOf;
 import static org.jeasy.random.util.CharacterUtils.filterLetters;
+import static org.jeasy.random.util.CharacterUtils.getPrintableCharactersOf;
+import static org.jeasy.random.util.CharacterUtils.getPrintableLettersOf;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -39,4 +43,29 @@ class CharacterUtilsTest {
 
         assertThat(characters).containsExactly('a', 'b');
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetPrintableCharactersOf() {
+        String characters = getPrintableCharactersOf(StandardCharsets.US_ASCII);
+
+        assertThat(characters).isEqualTo(toString(collectPrintableCharactersOf(StandardCharsets.US_ASCII)));
+        assertThat(getPrintableCharactersOf(StandardCharsets.US_ASCII)).isSameAs(characters);
+    }
+
+    @Test
+    void testGetPrintableLettersOf() {
+        String letters = getPrintableLettersOf(StandardCharsets.US_ASCII);
+
+        assertThat(letters).isEqualTo(toString(filterLetters(collectPrintableCharactersOf(StandardCharsets.US_ASCII))));
+        assertThat(getPrintableLettersOf(StandardCharsets.US_ASCII)).isSameAs(letters);
+        assertThat(getPrintableLettersOf(StandardCharsets.UTF_8)).isNotSameAs(letters);
+    }
+
+    private static String toString(List<Character> characters) {
+        StringBuilder string = new StringBuilder(characters.size());
+        for (Character character : characters) {
+            string.append(character.charValue());
+        }
+        return string.toString();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import org.jeasy.random.api.PrimitiveIntRandomizer;
+import org.jeasy.random.api.Randomizer;
+import org.jeasy.random.beans.ImmutableBean;
+import org.jeasy.random.beans.Salary;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldAccessorTest {
+
+    @Test
+    void accessorsShouldBeCachedPerField() throws Exception {
+        Field amount = Salary.class.getDeclaredField("amount");
+
+        assertThat(FieldAccessor.of(amount)).isSameAs(FieldAccessor.of(Salary.class.getDeclaredField("amount")));
+        assertThat(amount.canAccess(new Salary())).isFalse();
+    }
+
+    @Test
+    void setPropertyShouldUseTheSetter() throws Exception {
+        Salary salary = new Salary();
+        FieldAccessor accessor = FieldAccessor.of(Salary.class.getDeclaredField("amount"));
+
+        accessor.setProperty(salary, 10);
+
+        assertThat(salary.getAmount()).isEqualTo(10);
+        assertThat(salary.isSetterInvoked()).isTrue();
+    }
+
+    @Test
+    void setFieldValueShouldBypassTheSetter() throws Exception {
+        Salary salary = new Salary();
+        FieldAccessor accessor = FieldAccessor.of(Salary.class.getDeclaredField("amount"));
+
+        accessor.setFieldValue(salary, -10);
+
+        assertThat(accessor.getFieldValue(salary)).isEqualTo(-10);
+        assertThat(salary.isSetterInvoked()).isFalse();
+    }
+
+    @Test
+    void exceptionsThrownBySettersShouldBeWrapped() throws Exception {
+        Salary salary = new Salary();
+        FieldAccessor accessor = FieldAccessor.of(Salary.class.getDeclaredField("amount"));
+
+        assertThatThrownBy(() -> accessor.setProperty(salary, -1))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> accessor.setPrimitive(salary, (PrimitiveIntRandomizer) () -> -1, false))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void valuesOfTheWrongTypeShouldBeRejectedWithoutCallingTheSetter() throws Exception {
+        Salary salary = new Salary();
+        FieldAccessor accessor = FieldAccessor.of(Salary.class.getDeclaredField("amount"));
+
+        assertThatThrownBy(() -> accessor.setProperty(salary, "foo"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(salary.isSetterInvoked()).isFalse();
+    }
+
+    @Test
+    void exceptionsThrownByPrimitiveRandomizersShouldNotBeWrapped() throws Exception {
+        Salary salary = new Salary();
+        FieldAccessor accessor = FieldAccessor.of(Salary.class.getDeclaredField("amount"));
+        PrimitiveIntRandomizer randomizer = () -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> accessor.setPrimitive(salary, randomizer, false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(salary.isSetterInvoked()).isFalse();
+    }
+
+    @Test
+    void primitiveValuesShouldBeWrittenWithoutBoxing() throws Exception {
+        Salary salary = new Salary();
+        FieldAccessor accessor = FieldAccessor.of(Salary.class.getDeclaredField("amount"));
+
+        assertThat(accessor.setPrimitive(salary, (PrimitiveIntRandomizer) () -> 42, true)).isTrue();
+        assertThat(salary.getAmount()).isEqualTo(42);
+        assertThat(salary.isSetterInvoked()).isFalse();
+
+        assertThat(accessor.setPrimitive(salary, (PrimitiveIntRandomizer) () -> 43, false)).isTrue();
+        assertThat(salary.getAmount()).isEqualTo(43);
+        assertThat(salary.isSetterInvoked()).isTrue();
+    }
+
+    @Test
+    void valuesOfOtherRandomizersShouldNotBeWrittenUnboxed() throws Exception {
+        Salary salary = new Salary();
+        FieldAccessor accessor = FieldAccessor.of(Salary.class.getDeclaredField("amount"));
+        Randomizer<Integer> randomizer = () -> 42;
+
+        assertThat(accessor.setPrimitive(salary, randomizer, true)).isFalse();
+        assertThat(salary.getAmount()).isZero();
+    }
+
+    @Test
+    void finalFieldsShouldBeWritable() throws Exception {
+        ImmutableBean bean = new ImmutableBean("foo", null);
+        FieldAccessor accessor = FieldAccessor.of(ImmutableBean.class.getDeclaredField("finalValue"));
+
+        accessor.setProperty(bean, "bar");
+
+        assertThat(bean.getFinalValue()).isEqualTo("bar");
+    }
+}
@@ -24,6 +24,11 @@
 package org.jeasy.random.util;
 
 import org.jeasy.random.beans.*;
+import org.jeasy.random.records.Circle;
+import org.jeasy.random.records.Polygon;
+import org.jeasy.random.records.Shape;
+import org.jeasy.random.records.Square;
+import org.jeasy.random.records.Triangle;
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Documented;
@@ -86,6 +91,22 @@ class ReflectionUtilsTest {
         assertThat(ReflectionUtils.isAbstract(Bar.class)).isTrue();
     }
 
+    @Test
+    void testIsAbstractSealedType() {
+        assertThat(ReflectionUtils.isAbstractSealedType(Shape.class)).isTrue();
+        assertThat(ReflectionUtils.isAbstractSealedType(Polygon.class)).isTrue();
+
+        assertThat(ReflectionUtils.isAbstractSealedType(Square.class)).isFalse();
+        assertThat(ReflectionUtils.isAbstractSealedType(Bar.class)).isFalse();
+    }
+
+    @Test
+    void testGetPermittedConcreteSubTypesOf() {
+        assertThat(ReflectionUtils.getPermittedConcreteSubTypesOf(Shape.class)).containsExactly(Circle.class, Square.class, Triangle.class);
+        assertThat(ReflectionUtils.getPermittedConcreteSubTypesOf(Polygon.class)).containsExactly(Square.class, Triangle.class);
+        assertThat(ReflectionUtils.getPermittedConcreteSubTypesOf(Foo.class)).isEmpty();
+    }
+
     @Test
     void testIsPublic() {
         assertThat(ReflectionUtils.isPublic(Foo.class)).isTrue();
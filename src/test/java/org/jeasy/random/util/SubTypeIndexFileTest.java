@@ -0,0 +1,153 @@
+/*
+ * The MIT License
+ *
+ *   Copyright (c) 2023, Mahmoud Ben Hassine (mahmoud.benhassine@icloud.com)
+ *
+ *   Permission is hereby granted, free of charge, to any person obtaining a copy
+ *   of this software and associated documentation files (the "Software"), to deal
+ *   in the Software without restriction, including without limitation the rights
+ *   to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *   copies of the Software, and to permit persons to whom the Software is
+ *   furnished to do so, subject to the following conditions:
+ *
+ *   The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ *
+ *   THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *   IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *   FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *   AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *   LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *   OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ *   THE SOFTWARE.
+ */
+package org.jeasy.random.util;
+
+import org.jeasy.random.processor.SubTypeIndexProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubTypeIndexFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void indexShouldBeReadAsWritten() throws Exception {
+        Path file = SubTypeIndexFile.of(directory, Set.of("org.jeasy.random.beans"), false);
+        Map<String, List<String>> subTypeNames = Map.of("foo.Bar", List.of("foo.BarImpl", "foo.OtherBarImpl"));
+
+        SubTypeIndexFile.write(file, "fingerprint", subTypeNames);
+
+        assertThat(SubTypeIndexFile.read(file, "fingerprint")).isEqualTo(subTypeNames);
+    }
+
+    @Test
+    void indexShouldBeIgnoredWhenTheFingerprintDoesNotMatch() throws Exception {
+        Path file = SubTypeIndexFile.of(directory, Set.of(), true);
+
+        SubTypeIndexFile.write(file, "fingerprint", Map.of("foo.Bar", List.of("foo.BarImpl")));
+
+        assertThat(SubTypeIndexFile.read(file, "other fingerprint")).isNull();
+    }
+
+    @Test
+    void missingIndexShouldBeIgnored() throws Exception {
+        Path file = SubTypeIndexFile.of(directory, Set.of(), false);
+
+        assertThat(SubTypeIndexFile.read(file, "fingerprint")).isNull();
+    }
+
+    @Test
+    void compiledIndexesShouldBeMergedAndFilteredByPackage() throws Exception {
+        Path first = writeCompiledIndex("first", "#packages=foo,bar\nfoo.Animal=foo.Dog,bar.Cat\nfoo.Mammal=foo.Dog\n");
+        Path second = writeCompiledIndex("second", "#packages=foo\nfoo.Animal=foo.Bird,foo.Dog\n");
+        URL[] classpath = {first.toUri().toURL(), second.toUri().toURL()};
+
+        try (URLClassLoader classLoader = new URLClassLoader(classpath, null)) {
+            assertThat(SubTypeIndexFile.readCompiledIndexes(classLoader, Set.of("foo"), false))
+                    .containsEntry("foo.Animal", List.of("foo.Bird", "foo.Dog"))
+                    .containsEntry("foo.Mammal", List.of("foo.Dog"));
+            assertThat(SubTypeIndexFile.readCompiledIndexes(classLoader, Set.of("foo", "bar"), false))
+                    .containsEntry("foo.Animal", List.of("bar.Cat", "foo.Bird", "foo.Dog"));
+        }
+    }
+
+    @Test
+    void compiledIndexesShouldBeIgnoredForPackagesTheyDoNotCover() throws Exception {
+        Path indexed = writeCompiledIndex("indexed", "#packages=foo\nfoo.Animal=foo.Dog\n");
+        Path unknown = writeCompiledIndex("unknown", "foo.Animal=foo.Cat\n");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{indexed.toUri().toURL()}, null)) {
+            assertThat(SubTypeIndexFile.readCompiledIndexes(classLoader, Set.of("bar"), false)).isNull();
+            assertThat(SubTypeIndexFile.readCompiledIndexes(classLoader, Set.of("foo", "bar"), false)).isNull();
+            assertThat(SubTypeIndexFile.readCompiledIndexes(classLoader, Set.of(), false)).isNull();
+            assertThat(SubTypeIndexFile.readCompiledIndexes(classLoader, Set.of(), true))
+                    .containsEntry("foo.Animal", List.of("foo.Dog"));
+        }
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{unknown.toUri().toURL()}, null)) {
+            assertThat(SubTypeIndexFile.readCompiledIndexes(classLoader, Set.of("foo"), false)).isNull();
+        }
+    }
+
+    @Test
+    void compiledIndexesShouldBeIgnoredWhenThereIsNone() throws Exception {
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null)) {
+            assertThat(SubTypeIndexFile.readCompiledIndexes(classLoader, Set.of(), true)).isNull();
+        }
+    }
+
+    @Test
+    void indexFilesShouldBeDifferentForDifferentScopes() {
+        assertThat(SubTypeIndexFile.of(directory, Set.of("foo"), false))
+                .isEqualTo(SubTypeIndexFile.of(directory, Set.of("foo"), false))
+                .isNotEqualTo(SubTypeIndexFile.of(directory, Set.of("foo"), true))
+                .isNotEqualTo(SubTypeIndexFile.of(directory, Set.of("bar"), false));
+    }
+
+    @Test
+    void fingerprintShouldChangeWhenAFileOfTheClasspathIsModified() throws Exception {
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        Path classFile = Files.writeString(classes.resolve("Foo.class"), "foo");
+        List<File> classpath = List.of(classes.toFile());
+        String fingerprint = SubTypeIndexFile.fingerprint(classpath, false);
+
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(0));
+
+        assertThat(SubTypeIndexFile.fingerprint(classpath, false)).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void fingerprintShouldOnlyChangeWhenTheFilesOfTheClasspathChange() throws Exception {
+        Path classes = Files.createDirectories(directory.resolve("classes").resolve("org").resolve("acme"));
+        Files.writeString(classes.resolve("Foo.class"), "foo");
+        List<File> classpath = List.of(directory.resolve("classes").toFile(), directory.resolve("missing.jar").toFile());
+        String fingerprint = SubTypeIndexFile.fingerprint(classpath, false);
+
+        assertThat(SubTypeIndexFile.fingerprint(classpath, false)).isEqualTo(fingerprint);
+
+        Files.writeString(classes.resolve("Bar.class"), "bar");
+
+        assertThat(SubTypeIndexFile.fingerprint(classpath, false)).isNotEqualTo(fingerprint);
+    }
+
+    private Path writeCompiledIndex(final String name, final String content) throws Exception {
+        Path classes = directory.resolve(name);
+        Path index = classes.resolve(SubTypeIndexProcessor.SUBTYPE_INDEX_RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, content);
+        return classes;
+    }
+}